@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드의 처리량, p99 비교
+# 필요: JDK 21 이상, hey (https://github.com/rakyll/hey)
+# 사용법: scripts/compare-virtual-threads.sh [동시 접속 수] [요청 수]
+set -euo pipefail
+
+CONCURRENCY=${1:-200}
+REQUESTS=${2:-20000}
+PORT=18080
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+run() {
+	local mode=$1 virtual=$2
+	java -Dspring.threads.virtual.enabled="$virtual" -Djdk.tracePinnedThreads=short \
+		-Dserver.port=$PORT -jar "$JAR" > "build/compare-$mode.log" 2>&1 &
+	local pid=$!
+	until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+
+	# 로그인으로 토큰을 받아서 JPA 조회가 있는 /api/user 를 호출
+	local token
+	token=$(curl -sf -H 'Content-Type: application/json' -d '{"username":"admin","password":"admin"}' \
+		"http://localhost:$PORT/api/authenticate" | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+	echo "== $mode (spring.threads.virtual.enabled=$virtual)"
+	hey -n "$REQUESTS" -c "$CONCURRENCY" -H "Authorization: Bearer $token" "http://localhost:$PORT/api/user" \
+		| grep -E 'Requests/sec|99% in'
+	grep -c 'VirtualThread.*pinned' "build/compare-$mode.log" | sed 's/^/pinned thread events: /' || true
+
+	kill "$pid"
+	wait "$pid" 2> /dev/null || true
+}
+
+./gradlew -q bootJar
+run platform false
+run virtual true
@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+# JVM, JVM + AppCDS, JVM + Spring AOT, GraalVM native image 의 시작 시간(프로세스 실행 ~ 첫 요청 응답)과 RSS 비교
+# 필요: Linux (/proc), curl. native 모드는 먼저 ./gradlew nativeCompile (GraalVM 22.3 이상)
+# 사용법: scripts/startup-report.sh [jvm] [cds] [aot] [native]   (기본: 전체, native 바이너리가 없으면 건너뜀)
+# 결과: build/reports/startup/startup-report.json
+set -euo pipefail
+
+MODES=${*:-jvm cds aot native}
+PORT=18081
+REPORT_DIR=build/reports/startup
+NATIVE=build/native/nativeCompile/jwt-inflearn
+ARCHIVE=build/cds/app.jsa
+MAIN_CLASS=com.inhwan.JwtInflearnApplication
+
+now_ms() {
+	date +%s%3N
+}
+
+# 첫 요청(/api/hello)이 200을 받을 때까지 기다린 뒤 시작 시간(ms), RSS(KB)를 기록하고 종료
+measure() {
+	local mode=$1
+	shift
+	local start pid elapsed rss
+	start=$(now_ms)
+	"$@" --server.port=$PORT > "$REPORT_DIR/$mode.log" 2>&1 &
+	pid=$!
+	until curl -sf -o /dev/null "http://localhost:$PORT/api/hello"; do
+		if ! kill -0 "$pid" 2> /dev/null; then
+			echo "$mode: 프로세스가 종료되었습니다. $REPORT_DIR/$mode.log 확인" >&2
+			return 1
+		fi
+		sleep 0.05
+	done
+	elapsed=$(( $(now_ms) - start ))
+	rss=$(awk '/^VmRSS/ { print $2 }' "/proc/$pid/status")
+
+	kill -TERM "$pid"
+	wait "$pid" 2> /dev/null || true
+
+	echo "$mode: time-to-first-request ${elapsed} ms, RSS $(( rss / 1024 )) MB" >&2
+	RESULTS+=("{\"mode\":\"$mode\",\"timeToFirstRequestMillis\":$elapsed,\"rssKilobytes\":$rss}")
+}
+
+cds_classpath() {
+	# 학습 실행과 측정 실행의 classpath 순서가 같아야 archive를 사용할 수 있다
+	echo "$(ls build/cds/*.jar):$(ls build/cds/lib/*.jar | sort | paste -sd: -)"
+}
+
+mkdir -p "$REPORT_DIR"
+./gradlew -q bootJar cdsLayout
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+RESULTS=()
+
+for mode in $MODES; do
+	case $mode in
+		jvm)
+			measure jvm java -jar "$JAR"
+			;;
+		cds)
+			# 학습 실행: 종료할 때 로딩된 클래스를 dynamic archive로 저장 (JDK 13 이상)
+			rm -f "$ARCHIVE"
+			measure cds-training java -XX:ArchiveClassesAtExit="$ARCHIVE" -cp "$(cds_classpath)" "$MAIN_CLASS"
+			measure cds java -XX:SharedArchiveFile="$ARCHIVE" -cp "$(cds_classpath)" "$MAIN_CLASS"
+			;;
+		aot)
+			measure aot java -Dspring.aot.enabled=true -jar "$JAR"
+			;;
+		native)
+			if [ -x "$NATIVE" ]; then
+				measure native "$NATIVE"
+			else
+				echo "native: $NATIVE 가 없어서 건너뜁니다 (./gradlew nativeCompile)" >&2
+			fi
+			;;
+		*)
+			echo "알 수 없는 모드: $mode" >&2
+			exit 1
+			;;
+	esac
+done
+
+(IFS=,; echo "{\"timestamp\":\"$(date -u +%Y-%m-%dT%H:%M:%SZ)\",\"results\":[${RESULTS[*]}]}") > "$REPORT_DIR/startup-report.json"
+echo "결과: $REPORT_DIR/startup-report.json" >&2
@@ -0,0 +1,82 @@
+package com.inhwan.jwt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/* 벤치마크에서 공통으로 사용하는 TokenProvider와 토큰 생성 유틸 */
+final class BenchmarkTokens {
+
+	// application.yml과 같은 HS512 secret
+	static final String SECRET = "c2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQtc2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQK";
+
+	private BenchmarkTokens() {
+	}
+
+	static TokenProvider tokenProvider(long tokenValiditySeconds) throws Exception {
+		return tokenProvider(new HmacSigningKeyStrategy(SECRET, "hs512-default"), tokenValiditySeconds);
+	}
+
+	static TokenProvider tokenProvider(SigningKeyStrategy signingKeyStrategy, long tokenValiditySeconds) throws Exception {
+		// 빈 CompositeMeterRegistry는 아무것도 기록하지 않으므로 metrics 비용이 측정에 섞이지 않는다
+		return tokenProvider(signingKeyStrategy, tokenValiditySeconds, new CompositeMeterRegistry());
+	}
+
+	static TokenProvider tokenProvider(SigningKeyStrategy signingKeyStrategy, long tokenValiditySeconds,
+			MeterRegistry meterRegistry) throws Exception {
+		return tokenProvider(signingKeyStrategy, tokenValiditySeconds, TokenFormat.JWT, meterRegistry);
+	}
+
+	static TokenProvider tokenProvider(SigningKeyStrategy signingKeyStrategy, long tokenValiditySeconds,
+			TokenFormat tokenFormat, MeterRegistry meterRegistry) throws Exception {
+		TokenProvider tokenProvider = new TokenProvider(signingKeyStrategy, tokenValiditySeconds, tokenFormat,
+				new TokenAuthenticationCache(false, 0, 0, new SimpleMeterRegistry()),
+				new TokenRevocationList(100_000, 0.01, new SimpleMeterRegistry()),
+				new TokenMetrics(meterRegistry));
+		tokenProvider.afterPropertiesSet();
+		return tokenProvider;
+	}
+
+	// ROLE_USER, ROLE_ADMIN 외에 실제 서비스에서 볼 수 있는 길이의 권한 이름을 붙인다
+	static Authentication authentication(String username, int authorityCount) {
+		List<GrantedAuthority> authorities = new ArrayList<>(authorityCount);
+		authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+		if (authorityCount > 1) {
+			authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+		}
+		for (int i = 2; i < authorityCount; i++) {
+			authorities.add(new SimpleGrantedAuthority("ROLE_TENANT_" + i + "_REPORT_VIEWER"));
+		}
+		return new UsernamePasswordAuthenticationToken(username, "", authorities);
+	}
+
+	// 서명 부분의 한 글자를 바꿔서 위조된 토큰을 만든다
+	static String tamper(String token) {
+		char last = token.charAt(token.length() - 2);
+		char replaced = last == 'A' ? 'B' : 'A';
+		return token.substring(0, token.length() - 2) + replaced + token.charAt(token.length() - 1);
+	}
+
+	// valid / expired / tampered 중 하나의 토큰을 만든다
+	static String token(String kind, int authorityCount) throws Exception {
+		Authentication authentication = authentication("benchmark-user", authorityCount);
+		switch (kind) {
+			case "valid":
+				return tokenProvider(3600).createToken(authentication);
+			case "expired":
+				return tokenProvider(-3600).createToken(authentication);
+			case "tampered":
+				return tamper(tokenProvider(3600).createToken(authentication));
+			default:
+				throw new IllegalArgumentException(kind);
+		}
+	}
+}
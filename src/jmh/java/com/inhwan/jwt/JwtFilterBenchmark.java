@@ -0,0 +1,52 @@
+package com.inhwan.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import jakarta.servlet.FilterChain;
+
+/* Mock request chain으로 JwtFilter.doFilter 전체 비용 측정 */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+	@Param({ "valid", "expired", "tampered", "missing" })
+	public String tokenKind;
+
+	@Param({ "2", "8" })
+	public int authorityCount;
+
+	private JwtFilter jwtFilter;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setUp() throws Exception {
+		jwtFilter = new JwtFilter(BenchmarkTokens.tokenProvider(3600));
+		request = new MockHttpServletRequest("GET", "/api/user");
+		if (!"missing".equals(tokenKind)) {
+			request.addHeader(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + BenchmarkTokens.token(tokenKind, authorityCount));
+		}
+		response = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public void doFilter(Blackhole blackhole) throws Exception {
+		FilterChain chain = (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+		jwtFilter.doFilter(request, response, chain);
+		SecurityContextHolder.clearContext();	// 다음 호출에 인증 정보가 남지 않도록 비운다
+	}
+}
@@ -0,0 +1,79 @@
+package com.inhwan.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.inhwan.util.SecurityUtil;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/*
+ * 토큰 검증 후 Authentication을 요청이 읽는 만큼만 만들 때의 비용과 할당량 비교
+ * eager는 예전처럼 principal, 권한 목록, 만료 시각을 검증 직후 모두 만드는 경우
+ * 할당량은 ./gradlew jmh -PjmhInclude=LazyAuthenticationBenchmark -PjmhProfilers=gc 의 gc.alloc.rate.norm (B/op)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LazyAuthenticationBenchmark {
+
+	@Param({ "eager", "lazy" })
+	public String materialization;
+
+	// none: 인증만 필요한 요청, username: SecurityUtil.getCurrentUsername, roleCheck: @PreAuthorize(bitmask), authorities: 권한 목록
+	@Param({ "none", "username", "roleCheck", "authorities" })
+	public String access;
+
+	@Param({ "JWT", "JWT_COMPACT" })
+	public String format;
+
+	private TokenProvider tokenProvider;
+	private String token;
+	private boolean eager;
+
+	@Setup
+	public void setUp() throws Exception {
+		tokenProvider = BenchmarkTokens.tokenProvider(new HmacSigningKeyStrategy(BenchmarkTokens.SECRET, "hs512-default"),
+				3600, TokenFormat.valueOf(format), new CompositeMeterRegistry());
+		token = tokenProvider.createToken(BenchmarkTokens.authentication("benchmark-user", 2));
+		eager = "eager".equals(materialization);
+	}
+
+	@Benchmark
+	public void authenticate(Blackhole blackhole) {
+		Authentication authentication = tokenProvider.authenticate(token).getAuthentication();
+		if (eager) {
+			JwtAuthenticationToken jwtAuthentication = (JwtAuthenticationToken) authentication;
+			blackhole.consume(jwtAuthentication.getPrincipal());
+			blackhole.consume(jwtAuthentication.getAuthorities());
+			blackhole.consume(jwtAuthentication.getExpiration());
+		}
+
+		switch (access) {
+			case "username":
+				SecurityContextHolder.getContext().setAuthentication(authentication);
+				blackhole.consume(SecurityUtil.getCurrentUsername());
+				SecurityContextHolder.clearContext();
+				break;
+			case "roleCheck":
+				blackhole.consume(((JwtAuthenticationToken) authentication).getRoleMask());
+				break;
+			case "authorities":
+				blackhole.consume(authentication.getAuthorities());
+				break;
+			default:
+				blackhole.consume(authentication);
+		}
+	}
+}
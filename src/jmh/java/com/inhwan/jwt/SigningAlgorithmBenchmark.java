@@ -0,0 +1,67 @@
+package com.inhwan.jwt;
+
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/* HS512와 ES256의 서명/검증 처리량, 토큰 크기 비교 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SigningAlgorithmBenchmark {
+
+	@Param({ "HS512", "ES256" })
+	public String algorithm;
+
+	private TokenProvider tokenProvider;
+	private Authentication authentication;
+	private String token;
+
+	// 토큰 크기(byte)를 JMH 결과의 보조 지표(·tokenBytes)로 남긴다. 더하지 않고 덮어쓰므로 기본 스레드 1개에서 토큰 하나의 크기
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class TokenSize {
+		public long tokenBytes;
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		SigningKeyStrategy signingKeyStrategy;
+		if ("ES256".equals(algorithm)) {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+			generator.initialize(new ECGenParameterSpec("secp256r1"));
+			signingKeyStrategy = new EcSigningKeyStrategy(SignatureAlgorithm.ES256, "es256-bench", generator.generateKeyPair());
+		} else {
+			signingKeyStrategy = new HmacSigningKeyStrategy(BenchmarkTokens.SECRET, "hs512-bench");
+		}
+
+		tokenProvider = BenchmarkTokens.tokenProvider(signingKeyStrategy, 3600);
+		authentication = BenchmarkTokens.authentication("benchmark-user", 2);
+		token = tokenProvider.createToken(authentication);
+	}
+
+	@Benchmark
+	public String sign(TokenSize size) {
+		String signed = tokenProvider.createToken(authentication);
+		size.tokenBytes = signed.length();
+		return signed;
+	}
+
+	@Benchmark
+	public TokenVerificationResult verify() {
+		return tokenProvider.verifyToken(token);
+	}
+}
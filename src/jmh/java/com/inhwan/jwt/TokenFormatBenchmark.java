@@ -0,0 +1,63 @@
+package com.inhwan.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/* JWT(권한 이름), JWT_COMPACT(권한 bitmask), CWT(CBOR + COSE_Mac0)의 토큰 크기와 생성/파싱 비용 비교 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenFormatBenchmark {
+
+	@Param({ "JWT", "JWT_COMPACT", "CWT" })
+	public String format;
+
+	private TokenProvider tokenProvider;
+	private Authentication authentication;
+	private String token;
+
+	// 토큰 크기(byte)를 JMH 결과의 보조 지표(·tokenBytes)로 남긴다. 더하지 않고 덮어쓰므로 기본 스레드 1개에서 토큰 하나의 크기
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class TokenSize {
+		public long tokenBytes;
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		tokenProvider = BenchmarkTokens.tokenProvider(new HmacSigningKeyStrategy(BenchmarkTokens.SECRET, "hs512-default"),
+				3600, TokenFormat.valueOf(format), new CompositeMeterRegistry());
+		authentication = BenchmarkTokens.authentication("benchmark-user", 2);	// ROLE_USER, ROLE_ADMIN
+		token = tokenProvider.createToken(authentication);
+	}
+
+	// tokenBytes는 Authorization 헤더로 매 요청 전송되는 크기
+	@Benchmark
+	public String createToken(TokenSize size) {
+		String created = tokenProvider.createToken(authentication);
+		size.tokenBytes = created.length();
+		return created;
+	}
+
+	@Benchmark
+	public TokenVerificationResult verifyToken() {
+		return tokenProvider.verifyToken(token);
+	}
+
+	@Benchmark
+	public TokenVerificationResult authenticate() {
+		return tokenProvider.authenticate(token);
+	}
+}
@@ -0,0 +1,73 @@
+package com.inhwan.jwt;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/* metrics를 켰을 때(application.yml과 같은 histogram 설정)와 껐을 때 authenticate 비용 비교 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenMetricsBenchmark {
+
+	@Param({ "off", "on" })
+	public String metrics;
+
+	@Param({ "valid", "expired", "tampered" })
+	public String tokenKind;
+
+	private TokenProvider tokenProvider;
+	private String token;
+
+	@Setup
+	public void setUp() throws Exception {
+		MeterRegistry meterRegistry = "on".equals(metrics) ? histogramRegistry() : new CompositeMeterRegistry();
+		tokenProvider = BenchmarkTokens.tokenProvider(new HmacSigningKeyStrategy(BenchmarkTokens.SECRET, "hs512-default"),
+				3600, meterRegistry);
+		token = BenchmarkTokens.token(tokenKind, 2);
+	}
+
+	@Benchmark
+	public TokenVerificationResult authenticate() {
+		return tokenProvider.authenticate(token);
+	}
+
+	// Timer 기록이 여러 스레드에서 경합할 때의 비용
+	@Benchmark
+	@Threads(4)
+	public TokenVerificationResult authenticateContended() {
+		return tokenProvider.authenticate(token);
+	}
+
+	private static MeterRegistry histogramRegistry() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		meterRegistry.config().meterFilter(new MeterFilter() {
+			@Override
+			public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+				return DistributionStatisticConfig.builder()
+						.percentilesHistogram(true)
+						.minimumExpectedValue((double) Duration.ofNanos(1_000).toNanos())
+						.maximumExpectedValue((double) Duration.ofMillis(50).toNanos())
+						.build()
+						.merge(config);
+			}
+		});
+		return meterRegistry;
+	}
+}
@@ -0,0 +1,77 @@
+package com.inhwan.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+/*
+ * TokenProvider의 토큰 생성, 검증, Authentication 생성 비용 측정
+ * 토큰 생성은 tokenKind와 관계없으므로 tokenKind가 없는 state로 따로 측정한다
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Creation {
+
+		@Param({ "1", "2", "8" })
+		public int authorityCount;
+
+		private TokenProvider tokenProvider;
+		private Authentication authentication;
+
+		@Setup
+		public void setUp() throws Exception {
+			tokenProvider = BenchmarkTokens.tokenProvider(3600);
+			authentication = BenchmarkTokens.authentication("benchmark-user", authorityCount);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Verification {
+
+		@Param({ "valid", "expired", "tampered" })
+		public String tokenKind;
+
+		@Param({ "1", "2", "8" })
+		public int authorityCount;
+
+		private TokenProvider tokenProvider;
+		private String token;
+
+		@Setup
+		public void setUp() throws Exception {
+			tokenProvider = BenchmarkTokens.tokenProvider(3600);
+			token = BenchmarkTokens.token(tokenKind, authorityCount);
+		}
+	}
+
+	@Benchmark
+	public String createToken(Creation state) {
+		return state.tokenProvider.createToken(state.authentication);
+	}
+
+	@Benchmark
+	public boolean validateToken(Verification state) {
+		return state.tokenProvider.validateToken(state.token);
+	}
+
+	@Benchmark
+	public TokenVerificationResult verifyToken(Verification state) {
+		return state.tokenProvider.verifyToken(state.token);
+	}
+
+	@Benchmark
+	public TokenVerificationResult authenticate(Verification state) {
+		return state.tokenProvider.authenticate(state.token);
+	}
+}
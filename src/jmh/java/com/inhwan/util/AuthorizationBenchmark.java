@@ -0,0 +1,92 @@
+package com.inhwan.util;
+
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import com.inhwan.jwt.JwtAuthenticationToken;
+
+/*
+ * @PreAuthorize("hasAnyRole('USER','ADMIN')") 한 번의 평가 비용을 SpEL과 bitmask 검사로 비교
+ * authorityCount 8 은 bit가 없는 권한이 섞여 있어 이름 비교로 돌아가는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthorizationBenchmark {
+
+	private static final String EXPRESSION = "hasAnyRole('USER','ADMIN')";
+
+	@Param({ "spel", "compiled" })
+	public String parser;
+
+	@Param({ "1", "2", "8" })
+	public int authorityCount;
+
+	private DefaultMethodSecurityExpressionHandler expressionHandler;
+	private Expression expression;
+	private SimpleMethodInvocation methodInvocation;
+	private List<GrantedAuthority> authorities;
+	private Authentication authentication;
+
+	@Setup
+	public void setUp() throws Exception {
+		expressionHandler = new DefaultMethodSecurityExpressionHandler();
+		if ("compiled".equals(parser)) {
+			expressionHandler.setExpressionParser(new RoleExpressionParser("ROLE_"));
+		}
+		expression = expressionHandler.getExpressionParser().parseExpression(EXPRESSION);
+
+		Method method = AuthorizationBenchmark.class.getMethod("securedMethod");
+		methodInvocation = new SimpleMethodInvocation(this, method);
+
+		StringBuilder claim = new StringBuilder("ROLE_USER");
+		if (authorityCount > 1) {
+			claim.append(",ROLE_ADMIN");
+		}
+		for (int i = 2; i < authorityCount; i++) {
+			claim.append(",ROLE_TENANT_").append(i).append("_REPORT_VIEWER");
+		}
+		authorities = AuthorityRegistry.resolve(claim.toString());
+		authentication = newAuthentication();
+	}
+
+	public void securedMethod() {
+	}
+
+	// 요청마다 Authentication이 새로 만들어지는 경우 (bitmask 계산 포함)
+	@Benchmark
+	public boolean authorizeNewAuthentication() {
+		Authentication current = newAuthentication();
+		EvaluationContext context = expressionHandler.createEvaluationContext(() -> current, methodInvocation);
+		return ExpressionUtils.evaluateAsBoolean(expression, context);
+	}
+
+	// 같은 Authentication으로 여러 메서드를 호출하는 경우 (TokenAuthenticationCache에 걸린 토큰)
+	@Benchmark
+	public boolean authorizeCachedAuthentication() {
+		EvaluationContext context = expressionHandler.createEvaluationContext(() -> authentication, methodInvocation);
+		return ExpressionUtils.evaluateAsBoolean(expression, context);
+	}
+
+	private Authentication newAuthentication() {
+		return new JwtAuthenticationToken("benchmark-user", "token", authorities, "jti", new Date(), null);
+	}
+}
@@ -0,0 +1,61 @@
+package com.inhwan.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * 서버 쪽 스레드(Tomcat, BCrypt 풀 등)가 할당한 바이트 수를 스레드별로 합산
+ * 같은 JVM에서 돌아가는 부하 생성 스레드(load-*)와 HttpClient 스레드는 제외한다.
+ * 측정 중에 종료된 스레드의 할당량은 빠지므로 스레드 풀이 고정된 상태(워밍업 이후)에서 측정해야 한다.
+ */
+final class AllocationMeter {
+
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	static {
+		if (THREADS.isThreadAllocatedMemorySupported() && !THREADS.isThreadAllocatedMemoryEnabled()) {
+			THREADS.setThreadAllocatedMemoryEnabled(true);
+		}
+	}
+
+	private AllocationMeter() {
+	}
+
+	static boolean isSupported() {
+		return THREADS.isThreadAllocatedMemorySupported();
+	}
+
+	// 스레드 id -> 지금까지 할당한 바이트
+	static Map<Long, Long> snapshot() {
+		Map<Long, Long> allocated = new HashMap<>();
+		if (!isSupported()) {
+			return allocated;
+		}
+		long[] ids = THREADS.getAllThreadIds();
+		ThreadInfo[] infos = THREADS.getThreadInfo(ids);
+		long[] bytes = THREADS.getThreadAllocatedBytes(ids);
+		for (int i = 0; i < ids.length; i++) {
+			if (infos[i] == null || bytes[i] < 0 || isLoadGenerator(infos[i].getThreadName())) {
+				continue;
+			}
+			allocated.put(ids[i], bytes[i]);
+		}
+		return allocated;
+	}
+
+	// 두 snapshot 사이에 서버 스레드가 할당한 바이트 (중간에 생긴 스레드는 전부, 사라진 스레드는 제외)
+	static long allocatedBetween(Map<Long, Long> before, Map<Long, Long> after) {
+		long total = 0;
+		for (Map.Entry<Long, Long> entry : after.entrySet()) {
+			total += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+		}
+		return total;
+	}
+
+	private static boolean isLoadGenerator(String threadName) {
+		return threadName.startsWith("load-") || threadName.startsWith("HttpClient-");
+	}
+}
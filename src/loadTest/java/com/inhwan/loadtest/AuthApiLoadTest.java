@@ -0,0 +1,144 @@
+package com.inhwan.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inhwan.jwt.SigningKeyStrategy;
+
+import io.jsonwebtoken.Jwts;
+
+/*
+ * 랜덤 포트 + H2(메모리)로 서버 전체를 띄우고 인증 API에 시나리오별로 부하를 건다
+ * 결과(throughput, p50/p99/p999, 요청당 할당량)는 load-test.output 경로에 JSON으로 남기고,
+ * load-test.baseline이 있으면 이전 결과와 비교해서 tolerance 이상 나빠진 경우 실패한다.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+		"rate-limit.login.enabled=false",	// 같은 IP, 같은 유저로 계속 로그인하므로 시도 제한은 끈다
+		"spring.jpa.properties.hibernate.show_sql=false",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"logging.level.root=WARN"
+})
+class AuthApiLoadTest {
+
+	private static final Set<Integer> OK = Set.of(200);
+	private static final Set<Integer> UNAUTHORIZED = Set.of(401);
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private SigningKeyStrategy signingKeyStrategy;
+
+	private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+	private final HttpClient client = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+
+	private String userToken;
+	private String adminToken;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		userToken = login("user", "user");
+		adminToken = login("admin", "admin");
+	}
+
+	@Test
+	void authApiUnderLoad() throws Exception {
+		List<LoadScenario> scenarios = new ArrayList<>();
+		scenarios.add(new LoadScenario("login", sequence -> json("/api/authenticate",
+				"{\"username\":\"user\",\"password\":\"user\"}"), OK));
+		scenarios.add(new LoadScenario("signup", sequence -> json("/api/signup",
+				"{\"username\":\"load-" + sequence + "\",\"password\":\"password\",\"nickname\":\"load-" + sequence + "\"}"),
+				OK));
+		scenarios.add(new LoadScenario("me", sequence -> get("/api/user", userToken), OK));
+		scenarios.add(new LoadScenario("userByName", sequence -> get("/api/user/user", adminToken), OK));
+		scenarios.add(new LoadScenario("invalidToken", sequence -> get("/api/user", tamper(userToken)), UNAUTHORIZED));
+		scenarios.add(new LoadScenario("expiredToken", sequence -> get("/api/user", expiredToken()), UNAUTHORIZED));
+
+		LoadGenerator generator = new LoadGenerator(client, settings);
+		List<ScenarioResult> results = new ArrayList<>();
+		for (LoadScenario scenario : scenarios) {
+			if (settings.includes(scenario.name)) {
+				ScenarioResult result = generator.run(scenario);
+				System.out.println(result);
+				results.add(result);
+			}
+		}
+
+		LoadTestReport report = new LoadTestReport(settings);
+		report.write(results);
+		System.out.println("load test results: " + settings.output.toAbsolutePath());
+
+		assertThat(results).isNotEmpty();
+		for (ScenarioResult result : results) {
+			assertThat(result.requests).as(result.scenario + " requests").isPositive();
+			assertThat(result.errorRate).as(result.scenario + " error rate").isLessThanOrEqualTo(settings.maxErrorRate);
+		}
+		assertThat(report.regressions(results)).as("regressions against " + settings.baseline).isEmpty();
+	}
+
+	private String login(String username, String password) throws Exception {
+		HttpResponse<String> response = client.send(
+				json("/api/authenticate", "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"),
+				HttpResponse.BodyHandlers.ofString());
+		assertThat(response.statusCode()).as("login " + username).isEqualTo(200);
+		return objectMapper.readTree(response.body()).path("token").asText();
+	}
+
+	// 서명은 맞지만 만료된 토큰 (매번 새로 만들어서 TokenAuthenticationCache에 걸리지 않게 한다)
+	private String expiredToken() {
+		long now = System.currentTimeMillis();
+		return signingKeyStrategy.signWith(Jwts.builder()
+				.setSubject("user")
+				.claim("auth", "ROLE_USER")
+				.setIssuedAt(new Date(now - 120_000))
+				.setExpiration(new Date(now - 60_000)))
+				.compact();
+	}
+
+	// 서명 부분의 한 글자를 바꿔서 위조된 토큰을 만든다
+	private static String tamper(String token) {
+		char last = token.charAt(token.length() - 2);
+		char replaced = last == 'A' ? 'B' : 'A';
+		return token.substring(0, token.length() - 2) + replaced + token.charAt(token.length() - 1);
+	}
+
+	private HttpRequest json(String path, String body) {
+		return HttpRequest.newBuilder(uri(path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body))
+				.build();
+	}
+
+	private HttpRequest get(String path, String token) {
+		return HttpRequest.newBuilder(uri(path))
+				.header("Authorization", "Bearer " + token)
+				.GET()
+				.build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+}
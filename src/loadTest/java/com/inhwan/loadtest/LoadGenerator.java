@@ -0,0 +1,105 @@
+package com.inhwan.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/*
+ * 시나리오 하나를 concurrency 개의 스레드로 closed-loop 실행 (응답을 받으면 바로 다음 요청)
+ * 워밍업 구간은 버리고, 측정 구간의 지연 시간은 HdrHistogram으로 기록한다.
+ */
+final class LoadGenerator {
+
+	private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+	private final HttpClient client;
+	private final LoadTestSettings settings;
+
+	LoadGenerator(HttpClient client, LoadTestSettings settings) {
+		this.client = client;
+		this.settings = settings;
+	}
+
+	ScenarioResult run(LoadScenario scenario) throws InterruptedException {
+		AtomicLong sequence = new AtomicLong();
+		run(scenario, sequence, settings.warmupSeconds, null, null, null);
+
+		Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+		LongAdder errors = new LongAdder();
+		Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+		Map<Long, Long> allocatedBefore = AllocationMeter.snapshot();
+		long start = System.nanoTime();
+		run(scenario, sequence, settings.durationSeconds, recorder, errors, statusCounts);
+		double durationSeconds = (System.nanoTime() - start) / 1e9;
+		long allocated = AllocationMeter.isSupported()
+				? AllocationMeter.allocatedBetween(allocatedBefore, AllocationMeter.snapshot())
+				: -1;
+
+		Histogram latencies = recorder.getIntervalHistogram();
+		Map<Integer, Long> counts = new TreeMap<>();
+		statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+		return new ScenarioResult(scenario.name, settings.concurrency, latencies, errors.sum(), durationSeconds,
+				allocated, counts);
+	}
+
+	// recorder가 null 이면 워밍업 (기록하지 않음)
+	private void run(LoadScenario scenario, AtomicLong sequence, int seconds, Recorder recorder, LongAdder errors,
+			Map<Integer, LongAdder> statusCounts) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+		CountDownLatch done = new CountDownLatch(settings.concurrency);
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency,
+				runnable -> new Thread(runnable, "load-" + scenario.name + "-" + threadNumber.incrementAndGet()));
+		try {
+			for (int i = 0; i < settings.concurrency; i++) {
+				workers.execute(() -> {
+					try {
+						while (System.nanoTime() < deadline) {
+							long requestStart = System.nanoTime();
+							int status = send(scenario, sequence.getAndIncrement());
+							long latency = System.nanoTime() - requestStart;
+							if (recorder == null) {
+								continue;
+							}
+							recorder.recordValue(Math.min(latency, MAX_LATENCY_NANOS));
+							statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+							if (!scenario.expectedStatuses.contains(status)) {
+								errors.increment();
+							}
+						}
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			done.await();
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
+	// 응답 코드, 응답을 받지 못하면 -1
+	private int send(LoadScenario scenario, long sequence) {
+		try {
+			return client.send(scenario.request.apply(sequence), HttpResponse.BodyHandlers.discarding()).statusCode();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return -1;
+		} catch (Exception e) {
+			return -1;
+		}
+	}
+}
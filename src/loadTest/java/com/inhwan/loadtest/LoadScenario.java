@@ -0,0 +1,23 @@
+package com.inhwan.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/*
+ * 부하 테스트 시나리오 하나
+ * request는 요청 순번을 받아 보낼 요청을 만들고 (signup처럼 매번 다른 값이 필요한 경우),
+ * expectedStatuses에 없는 응답 코드는 에러로 센다.
+ */
+final class LoadScenario {
+
+	final String name;
+	final LongFunction<HttpRequest> request;
+	final Set<Integer> expectedStatuses;
+
+	LoadScenario(String name, LongFunction<HttpRequest> request, Set<Integer> expectedStatuses) {
+		this.name = name;
+		this.request = request;
+		this.expectedStatuses = expectedStatuses;
+	}
+}
@@ -0,0 +1,74 @@
+package com.inhwan.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/*
+ * 부하 테스트 결과를 JSON으로 남기고 baseline 결과와 비교
+ * baseline은 이전 실행의 results.json을 그대로 사용한다.
+ */
+final class LoadTestReport {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+	private final LoadTestSettings settings;
+
+	LoadTestReport(LoadTestSettings settings) {
+		this.settings = settings;
+	}
+
+	void write(List<ScenarioResult> results) throws IOException {
+		Map<String, Object> environment = new LinkedHashMap<>();
+		environment.put("javaVersion", System.getProperty("java.version"));
+		environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+		environment.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("timestamp", Instant.now().toString());
+		report.put("environment", environment);
+		report.put("warmupSeconds", settings.warmupSeconds);
+		report.put("durationSeconds", settings.durationSeconds);
+		report.put("scenarios", results);
+
+		Files.createDirectories(settings.output.toAbsolutePath().getParent());
+		objectMapper.writeValue(settings.output.toFile(), report);
+	}
+
+	// baseline보다 throughput이 줄었거나 p99가 늘어난 비율이 tolerance를 넘는 시나리오 목록
+	List<String> regressions(List<ScenarioResult> results) throws IOException {
+		List<String> regressions = new ArrayList<>();
+		if (settings.baseline == null) {
+			return regressions;
+		}
+
+		Map<String, JsonNode> baseline = new LinkedHashMap<>();
+		for (JsonNode scenario : objectMapper.readTree(settings.baseline.toFile()).path("scenarios")) {
+			baseline.put(scenario.path("scenario").asText(), scenario);
+		}
+
+		for (ScenarioResult result : results) {
+			JsonNode previous = baseline.get(result.scenario);
+			if (previous == null) {
+				continue;	// 새로 추가된 시나리오
+			}
+			double previousThroughput = previous.path("throughput").asDouble();
+			double previousP99 = previous.path("p99Micros").asDouble();
+			if (result.throughput < previousThroughput * (1 - settings.tolerance)) {
+				regressions.add(String.format("%s throughput %.1f -> %.1f req/s", result.scenario, previousThroughput,
+						result.throughput));
+			}
+			if (previousP99 > 0 && result.p99Micros > previousP99 * (1 + settings.tolerance)) {
+				regressions.add(String.format("%s p99 %.1f -> %.1f us", result.scenario, previousP99, result.p99Micros));
+			}
+		}
+		return regressions;
+	}
+}
@@ -0,0 +1,50 @@
+package com.inhwan.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/* build.gradle의 loadTest 태스크가 넘겨주는 system property (-Pload-test.xxx) */
+final class LoadTestSettings {
+
+	final int concurrency;
+	final int warmupSeconds;
+	final int durationSeconds;
+	final Set<String> scenarios;	// 비어있으면 전체 시나리오
+	final Path output;
+	final Path baseline;	// 없으면 비교하지 않음
+	final double tolerance;	// baseline 대비 허용하는 악화 비율
+	final double maxErrorRate;
+
+	private LoadTestSettings(int concurrency, int warmupSeconds, int durationSeconds, Set<String> scenarios,
+			Path output, Path baseline, double tolerance, double maxErrorRate) {
+		this.concurrency = concurrency;
+		this.warmupSeconds = warmupSeconds;
+		this.durationSeconds = durationSeconds;
+		this.scenarios = scenarios;
+		this.output = output;
+		this.baseline = baseline;
+		this.tolerance = tolerance;
+		this.maxErrorRate = maxErrorRate;
+	}
+
+	static LoadTestSettings fromSystemProperties() {
+		String scenarios = System.getProperty("load-test.scenarios", "");
+		String baseline = System.getProperty("load-test.baseline", "");
+		return new LoadTestSettings(
+				Integer.getInteger("load-test.concurrency", 16),
+				Integer.getInteger("load-test.warmup-seconds", 3),
+				Integer.getInteger("load-test.duration-seconds", 10),
+				scenarios.isBlank() ? Set.of()
+						: new LinkedHashSet<>(Arrays.asList(scenarios.trim().split("\\s*,\\s*"))),
+				Path.of(System.getProperty("load-test.output", "build/reports/load-test/results.json")),
+				baseline.isBlank() ? null : Path.of(baseline),
+				Double.parseDouble(System.getProperty("load-test.tolerance", "0.10")),
+				Double.parseDouble(System.getProperty("load-test.max-error-rate", "0.01")));
+	}
+
+	boolean includes(String scenario) {
+		return scenarios.isEmpty() || scenarios.contains(scenario);
+	}
+}
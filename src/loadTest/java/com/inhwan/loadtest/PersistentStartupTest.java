@@ -0,0 +1,136 @@
+package com.inhwan.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inhwan.JwtInflearnApplication;
+import com.inhwan.repository.UserRepository;
+
+/*
+ * persistent 프로필(H2 파일 DB + Flyway)의 시작 시간 측정
+ * 빈 파일에 마이그레이션을 적용한 뒤 유저를 대량으로 넣고, 같은 파일로 여러 번 다시 띄우면서
+ * 시작 시간과 재시작 직후 첫 유저 조회 시간을 JSON으로 남긴다 (load-test.output과 같은 폴더의 startup.json).
+ */
+class PersistentStartupTest {
+
+	private static final String PASSWORD_HASH = "$2a$08$UkVvwpULis18S19S5pZFn.YHPZt3oaqHZnDwqbCW9pft6uFtkXKDC";
+	private static final int BATCH_SIZE = 1000;
+	private static final long FIRST_SEEDED_ID = 1_000_000;
+
+	@TempDir
+	Path dataDir;
+
+	@Test
+	void startupWithLargeUserTable() throws Exception {
+		int users = Integer.getInteger("load-test.startup-users", 200_000);
+		int restarts = Integer.getInteger("load-test.startup-restarts", 3);
+		String url = "jdbc:h2:file:" + dataDir.resolve("inhwan").toAbsolutePath()
+				+ ";CACHE_SIZE=65536;DB_CLOSE_ON_EXIT=FALSE";
+
+		// 빈 파일에 V1, V2 마이그레이션 적용
+		long start = System.nanoTime();
+		boot(url).close();
+		double migrateMillis = (System.nanoTime() - start) / 1e6;
+
+		start = System.nanoTime();
+		seed(url, users);
+		double seedMillis = (System.nanoTime() - start) / 1e6;
+
+		List<Map<String, Object>> runs = new ArrayList<>();
+		String probe = "load-" + (users / 2);	// 중간쯤 있는 유저 (username 인덱스를 타는지 확인용)
+		for (int i = 0; i < restarts; i++) {
+			start = System.nanoTime();
+			try (ConfigurableApplicationContext context = boot(url)) {
+				double startupMillis = (System.nanoTime() - start) / 1e6;
+
+				UserRepository userRepository = context.getBean(UserRepository.class);
+				long lookupStart = System.nanoTime();
+				assertThat(userRepository.findOneWithAuthoritiesByUsername(probe)).isPresent();
+				double firstLookupMicros = (System.nanoTime() - lookupStart) / 1e3;
+
+				Map<String, Object> run = new LinkedHashMap<>();
+				run.put("startupMillis", startupMillis);
+				run.put("firstLookupMicros", firstLookupMicros);
+				runs.add(run);
+				System.out.printf("restart %d: startup %.0f ms, first lookup %.0f us%n", i + 1, startupMillis,
+						firstLookupMicros);
+			}
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("timestamp", Instant.now().toString());
+		report.put("users", users);
+		report.put("migrateMillis", migrateMillis);
+		report.put("seedMillis", seedMillis);
+		report.put("databaseBytes", Files.size(dataDir.resolve("inhwan.mv.db")));
+		report.put("restarts", runs);
+
+		Path output = LoadTestSettings.fromSystemProperties().output.toAbsolutePath().resolveSibling("startup.json");
+		Files.createDirectories(output.getParent());
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+		System.out.println("startup results: " + output);
+	}
+
+	private static ConfigurableApplicationContext boot(String url) {
+		return new SpringApplicationBuilder(JwtInflearnApplication.class)
+				.profiles("persistent")
+				.properties(
+						"server.port=0",
+						"spring.datasource.url=" + url,
+						"spring.jpa.properties.hibernate.show_sql=false",
+						"logging.level.root=WARN")
+				.run();
+	}
+
+	// 애플리케이션 밖에서 JDBC batch로 유저와 권한을 넣고, 시퀀스를 넣은 id 뒤로 옮긴다
+	private static void seed(String url, int users) throws Exception {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+			connection.setAutoCommit(false);
+			try (PreparedStatement user = connection.prepareStatement(
+					"insert into \"user\" (user_id, username, password, nickname, activated) values (?, ?, ?, ?, true)");
+					PreparedStatement authority = connection.prepareStatement(
+							"insert into user_authority (user_id, authority_name) values (?, 'ROLE_USER')")) {
+				for (int i = 0; i < users; i++) {
+					long userId = FIRST_SEEDED_ID + i;
+					user.setLong(1, userId);
+					user.setString(2, "load-" + i);
+					user.setString(3, PASSWORD_HASH);
+					user.setString(4, "load-" + i);
+					user.addBatch();
+					authority.setLong(1, userId);
+					authority.addBatch();
+					if ((i + 1) % BATCH_SIZE == 0) {
+						user.executeBatch();
+						authority.executeBatch();
+						connection.commit();
+					}
+				}
+				user.executeBatch();
+				authority.executeBatch();
+			}
+			try (Statement statement = connection.createStatement()) {
+				// Hibernate pooled optimizer는 받은 값 - 49 부터 사용하므로 allocationSize(50) 만큼 더 띄운다
+				statement.execute("alter sequence user_seq restart with " + (FIRST_SEEDED_ID + users + 50));
+			}
+			connection.commit();
+		}
+	}
+}
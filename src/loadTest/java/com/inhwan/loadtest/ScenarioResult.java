@@ -0,0 +1,49 @@
+package com.inhwan.loadtest;
+
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/* 시나리오 하나의 측정 결과, 그대로 results.json에 직렬화된다 (시간 단위는 microsecond) */
+public final class ScenarioResult {
+
+	public final String scenario;
+	public final int concurrency;
+	public final long requests;
+	public final long errors;
+	public final double errorRate;
+	public final double durationSeconds;
+	public final double throughput;	// 초당 요청 수
+	public final double p50Micros;
+	public final double p99Micros;
+	public final double p999Micros;
+	public final double maxMicros;
+	public final double allocatedBytesPerRequest;	// 서버 스레드 기준, 측정할 수 없는 JVM이면 -1
+	public final double allocationRateMbPerSecond;
+	public final Map<Integer, Long> statusCounts;	// 응답 코드별 개수 (-1은 연결 실패 등 응답이 없는 경우)
+
+	ScenarioResult(String scenario, int concurrency, Histogram latencies, long errors, double durationSeconds,
+			long allocatedBytes, Map<Integer, Long> statusCounts) {
+		this.scenario = scenario;
+		this.concurrency = concurrency;
+		this.requests = latencies.getTotalCount();
+		this.errors = errors;
+		this.errorRate = requests == 0 ? 0 : (double) errors / requests;
+		this.durationSeconds = durationSeconds;
+		this.throughput = requests / durationSeconds;
+		this.p50Micros = latencies.getValueAtPercentile(50) / 1000.0;
+		this.p99Micros = latencies.getValueAtPercentile(99) / 1000.0;
+		this.p999Micros = latencies.getValueAtPercentile(99.9) / 1000.0;
+		this.maxMicros = latencies.getMaxValue() / 1000.0;
+		this.allocatedBytesPerRequest = allocatedBytes < 0 || requests == 0 ? -1 : (double) allocatedBytes / requests;
+		this.allocationRateMbPerSecond = allocatedBytes < 0 ? -1 : allocatedBytes / durationSeconds / (1024 * 1024);
+		this.statusCounts = statusCounts;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%-14s %8d req %10.1f req/s  p50 %9.1fus  p99 %9.1fus  p999 %9.1fus  %10.0f B/req  errors %d %s",
+				scenario, requests, throughput, p50Micros, p99Micros, p999Micros, allocatedBytesPerRequest, errors,
+				statusCounts);
+	}
+}
@@ -2,8 +2,14 @@ package com.inhwan;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.inhwan.config.NativeRuntimeHints;
 
 @SpringBootApplication
+@EnableScheduling // 토큰 폐기 목록 갱신 등 주기 작업
+@ImportRuntimeHints(NativeRuntimeHints.class) // native image용 jjwt, 엔티티, DTO reflection 설정
 public class JwtInflearnApplication {
 
 	public static void main(String[] args) {
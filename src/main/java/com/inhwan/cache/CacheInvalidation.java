@@ -0,0 +1,31 @@
+package com.inhwan.cache;
+
+/* 모든 노드에 전달되는 캐시 무효화 이벤트. key가 null이면 region 전체 */
+public final class CacheInvalidation {
+
+	private final String region;
+	private final String key;
+	private final String origin;	// 이벤트를 보낸 노드(캐시 인스턴스), 자기가 보낸 이벤트는 다시 처리하지 않는다
+
+	public CacheInvalidation(String region, String key, String origin) {
+		this.region = region;
+		this.key = key;
+		this.origin = origin;
+	}
+
+	public String getRegion() {
+		return region;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public String getOrigin() {
+		return origin;
+	}
+
+	public boolean isAll() {
+		return key == null;
+	}
+}
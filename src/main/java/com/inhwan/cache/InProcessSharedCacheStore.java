@@ -0,0 +1,86 @@
+package com.inhwan.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * 한 JVM 안에서만 공유되는 SharedCacheStore (단일 인스턴스 운영과 테스트용)
+ * 같은 store를 공유하는 TwoLevelCache 여러 개를 만들면 여러 노드가 무효화를 주고받는 상황을 재현할 수 있다.
+ */
+public class InProcessSharedCacheStore implements SharedCacheStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(InProcessSharedCacheStore.class);
+
+	private final Map<String, Map<String, Entry>> regions = new ConcurrentHashMap<>();
+	private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+	@Override
+	public Object get(String region, String key) {
+		Map<String, Entry> entries = regions.get(region);
+		if (entries == null) {
+			return null;
+		}
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAtNanos - System.nanoTime() <= 0) {
+			entries.remove(key, entry);
+			return null;
+		}
+		return entry.value;
+	}
+
+	@Override
+	public void put(String region, String key, Object value, Duration ttl) {
+		regions.computeIfAbsent(region, r -> new ConcurrentHashMap<>())
+				.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+	}
+
+	@Override
+	public void evict(String region, String key) {
+		Map<String, Entry> entries = regions.get(region);
+		if (entries != null) {
+			entries.remove(key);
+		}
+	}
+
+	@Override
+	public void evictAll(String region) {
+		regions.remove(region);
+	}
+
+	@Override
+	public void publish(CacheInvalidation invalidation) {
+		for (Consumer<CacheInvalidation> listener : listeners) {
+			try {
+				listener.accept(invalidation);
+			} catch (RuntimeException e) {
+				// 한 노드의 처리 실패가 다른 노드로의 전달을 막지 않도록 한다
+				logger.warn("캐시 무효화 이벤트 처리에 실패했습니다. region: {}, key: {}", invalidation.getRegion(), invalidation.getKey(), e);
+			}
+		}
+	}
+
+	@Override
+	public void subscribe(Consumer<CacheInvalidation> listener) {
+		listeners.add(listener);
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long expiresAtNanos;
+
+		private Entry(Object value, long expiresAtNanos) {
+			this.value = value;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+	}
+}
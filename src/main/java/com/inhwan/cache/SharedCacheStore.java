@@ -0,0 +1,27 @@
+package com.inhwan.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/*
+ * 여러 노드가 함께 보는 공유 캐시 저장소와 무효화 이벤트 채널
+ * 기본 구현은 한 JVM 안에서만 공유하는 InProcessSharedCacheStore이고, 여러 인스턴스로 띄울 때는
+ * Redis 같은 외부 저장소(key-value + pub/sub)로 같은 계약을 구현한 빈을 등록하면 교체된다.
+ * 외부 저장소에 저장할 값은 직렬화할 수 있어야 한다.
+ */
+public interface SharedCacheStore {
+
+	// 없거나 만료되었으면 null
+	Object get(String region, String key);
+
+	void put(String region, String key, Object value, Duration ttl);
+
+	void evict(String region, String key);
+
+	void evictAll(String region);
+
+	// 구독 중인 모든 노드에 무효화 이벤트를 보낸다
+	void publish(CacheInvalidation invalidation);
+
+	void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,122 @@
+package com.inhwan.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/*
+ * 노드 메모리의 near-cache(L1)와 공유 저장소(L2)로 이루어진 read-through 캐시
+ * 조회는 L1 -> L2 -> loader 순서이고, 무효화는 L1, L2를 지운 뒤 모든 노드에 이벤트로 알린다.
+ * 이벤트가 유실되더라도 L1은 staleWindow가 지나면 만료되므로 다른 노드가 예전 값을 보는 시간은 staleWindow를 넘지 않는다.
+ * loader가 커밋 전의 값을 읽는 동안 무효화가 끝난 경우에는 그 값을 L2에 넣지 않는다 (키별 generation 비교).
+ */
+public class TwoLevelCache<V> {
+
+	private static final int GENERATION_STRIPES = 1024;
+
+	private final String region;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final SharedCacheStore sharedStore;
+	private final Class<V> valueType;
+	private final Duration sharedTtl;
+	private final Cache<String, V> local;
+	// 키 hash별 무효화 횟수. 키마다 두지 않고 고정 개수로 나눠서 메모리가 늘지 않게 한다 (겹치는 키는 L2 저장을 한 번 더 건너뛸 뿐)
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+	public TwoLevelCache(String region, Class<V> valueType, SharedCacheStore sharedStore,
+			long maxEntries, Duration staleWindow, Duration sharedTtl, MeterRegistry meterRegistry) {
+		this.region = region;
+		this.valueType = valueType;
+		this.sharedStore = sharedStore;
+		this.sharedTtl = sharedTtl;
+		this.local = Caffeine.newBuilder()
+				.maximumSize(maxEntries)
+				.expireAfterWrite(staleWindow)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, local, region);	// L1 hit rate, 로딩 시간을 metrics로 노출
+		sharedStore.subscribe(this::onInvalidation);
+	}
+
+	// L1, L2 모두 없을 때만 loader를 호출한다. loader가 null을 돌려주면 어디에도 캐싱하지 않는다
+	public V get(String key, Function<String, V> loader) {
+		return local.get(key, k -> {
+			Object shared = sharedStore.get(region, k);
+			if (valueType.isInstance(shared)) {
+				return valueType.cast(shared);
+			}
+			long generation = generations.get(stripe(k));
+			V loaded = loader.apply(k);
+			if (loaded != null && generations.get(stripe(k)) == generation) {
+				sharedStore.put(region, k, loaded, sharedTtl);
+				if (generations.get(stripe(k)) != generation) {
+					sharedStore.evict(region, k);	// 확인과 저장 사이에 무효화된 경우 방금 넣은 값을 다시 지운다
+				}
+			}
+			return loaded;
+		});
+	}
+
+	// 지금 지우고, 트랜잭션 안이면 커밋 후에 한 번 더 지운다 (커밋 전에 다른 요청이 예전 값을 다시 채운 경우)
+	public void evict(String key) {
+		evictNow(key);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(key);
+				}
+			});
+		}
+	}
+
+	public void evictAll() {
+		invalidateAllGenerations();
+		local.invalidateAll();
+		sharedStore.evictAll(region);
+		sharedStore.publish(new CacheInvalidation(region, null, nodeId));
+	}
+
+	private void evictNow(String key) {
+		generations.incrementAndGet(stripe(key));	// 지우기 전에 올려서 진행 중인 loader가 L2에 넣지 않게 한다
+		local.invalidate(key);
+		sharedStore.evict(region, key);
+		sharedStore.publish(new CacheInvalidation(region, key, nodeId));
+	}
+
+	// 다른 노드에서 보낸 이벤트만 반영한다. L2는 보낸 쪽에서 이미 지웠지만,
+	// 이 노드에서 커밋 전에 시작한 loader가 그 뒤에 L2에 넣었을 수 있으므로 L1 로딩이 끝난 뒤에 한 번 더 지운다
+	private void onInvalidation(CacheInvalidation invalidation) {
+		if (!region.equals(invalidation.getRegion()) || nodeId.equals(invalidation.getOrigin())) {
+			return;
+		}
+		if (invalidation.isAll()) {
+			invalidateAllGenerations();
+			local.invalidateAll();
+		} else {
+			generations.incrementAndGet(stripe(invalidation.getKey()));	// 이 노드에서 로딩 중인 예전 값도 L2에 넣지 않는다
+			local.invalidate(invalidation.getKey());	// 같은 키를 로딩 중이면 끝날 때까지 기다린다
+			sharedStore.evict(region, invalidation.getKey());
+		}
+	}
+
+	private void invalidateAllGenerations() {
+		for (int i = 0; i < GENERATION_STRIPES; i++) {
+			generations.incrementAndGet(i);
+		}
+	}
+
+	private static int stripe(String key) {
+		return (key.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+	}
+}
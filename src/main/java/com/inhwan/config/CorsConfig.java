@@ -0,0 +1,28 @@
+package com.inhwan.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+
+/* SecurityConfig에서 사용하는 CORS 필터 (/api/** 에 대해 모든 origin, header, method 허용) */
+@Configuration
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class CorsConfig {
+
+	@Bean
+	public CorsFilter corsFilter() {
+		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+		CorsConfiguration config = new CorsConfiguration();
+		config.setAllowCredentials(true);
+		config.addAllowedOriginPattern("*");	// allowCredentials와 함께 쓰려면 "*" origin 대신 pattern을 사용해야 한다
+		config.addAllowedHeader("*");
+		config.addAllowedMethod("*");
+
+		source.registerCorsConfiguration("/api/**", config);
+		return new CorsFilter(source);
+	}
+}
@@ -0,0 +1,57 @@
+package com.inhwan.config;
+
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import com.inhwan.jwt.EcSigningKeyStrategy;
+import com.inhwan.jwt.HmacSigningKeyStrategy;
+import com.inhwan.jwt.KeyRingSigningKeyStrategy;
+import com.inhwan.jwt.SigningKeyLoader;
+import com.inhwan.jwt.SigningKeyStrategy;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+@Configuration
+/* jwt.signing 설정에 따라 키 묶음 파일, HS512(공유 secret) 또는 ES256 계열(키 쌍) 서명 방식을 등록 */
+public class JwtSigningConfig {
+
+	@Bean
+	public SigningKeyStrategy signingKeyStrategy(@Value("${jwt.signing.algorithm:HS512}") SignatureAlgorithm algorithm,
+			@Value("${jwt.signing.key-id:default}") String keyId,
+			@Value("${jwt.secret:}") String secret,
+			@Value("${jwt.signing.keystore.path:}") String keyStorePath,
+			@Value("${jwt.signing.keystore.type:PKCS12}") String keyStoreType,
+			@Value("${jwt.signing.keystore.password:}") String keyStorePassword,
+			@Value("${jwt.signing.keystore.alias:}") String keyStoreAlias,
+			@Value("${jwt.signing.private-key-pem:}") String privateKeyPem,
+			@Value("${jwt.signing.public-key-pem:}") String publicKeyPem,
+			@Value("${jwt.signing.key-ring-file:}") String keyRingFile,
+			@Value("${jwt.signing.key-ring-reload-interval-seconds:10}") long reloadIntervalSeconds,
+			@Value("${jwt.token-validity-in-seconds}") long tokenValiditySeconds) {
+
+		// 키 묶음 파일이 있으면 파일의 active 키로 서명하고, 파일이 바뀌면 재시작 없이 다시 읽는다
+		if (StringUtils.hasText(keyRingFile)) {
+			return new KeyRingSigningKeyStrategy(Path.of(keyRingFile), Duration.ofSeconds(tokenValiditySeconds),
+					Duration.ofSeconds(reloadIntervalSeconds));
+		}
+
+		if (algorithm == SignatureAlgorithm.HS512) {
+			return new HmacSigningKeyStrategy(secret, keyId);
+		}
+		if (!algorithm.isEllipticCurve()) {
+			throw new IllegalStateException("지원하지 않는 jwt.signing.algorithm 입니다: " + algorithm);
+		}
+
+		// keystore가 설정되어 있으면 keystore를, 아니면 PEM 파일을 사용
+		KeyPair keyPair = StringUtils.hasText(keyStorePath)
+				? SigningKeyLoader.fromKeyStore(Path.of(keyStorePath), keyStoreType, keyStorePassword, keyStoreAlias)
+				: SigningKeyLoader.fromPem(Path.of(privateKeyPem), Path.of(publicKeyPem), "EC");
+		return new EcSigningKeyStrategy(algorithm, keyId, keyPair);
+	}
+}
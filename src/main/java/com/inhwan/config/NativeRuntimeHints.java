@@ -0,0 +1,78 @@
+package com.inhwan.config;
+
+import java.util.List;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.inhwan.dto.AuthorityDto;
+import com.inhwan.dto.ErrorDto;
+import com.inhwan.dto.LoginDto;
+import com.inhwan.dto.RefreshTokenDto;
+import com.inhwan.dto.TokenDto;
+import com.inhwan.dto.UserActivationDto;
+import com.inhwan.dto.UserDto;
+import com.inhwan.dto.UserImportDto;
+import com.inhwan.dto.UserImportResultDto;
+import com.inhwan.dto.UserPageDto;
+import com.inhwan.dto.UserSnapshot;
+import com.inhwan.dto.UserSummaryDto;
+import com.inhwan.entity.Authority;
+import com.inhwan.entity.RefreshToken;
+import com.inhwan.entity.RevokedToken;
+import com.inhwan.entity.User;
+
+/*
+ * GraalVM native image(./gradlew nativeCompile)에서 AOT 분석만으로는 찾을 수 없는 reflection, resource 설정
+ * 컨트롤러의 요청/응답 타입은 Spring AOT가 등록하지만, 서비스 안에서 ObjectMapper로 읽고 쓰는 DTO와
+ * 이름으로 클래스를 찾는 jjwt 구현체는 여기서 직접 등록한다.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+	// jjwt-api가 Classes.newInstance, invokeStatic 으로 찾는 jjwt-impl, jjwt-jackson 클래스
+	private static final List<String> JJWT_TYPES = List.of(
+			"io.jsonwebtoken.impl.DefaultJwtBuilder",
+			"io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+			"io.jsonwebtoken.impl.DefaultJwtParser",
+			"io.jsonwebtoken.impl.DefaultClaims",
+			"io.jsonwebtoken.impl.DefaultHeader",
+			"io.jsonwebtoken.impl.DefaultJwsHeader",
+			"io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+			"io.jsonwebtoken.impl.crypto.MacProvider",
+			"io.jsonwebtoken.impl.crypto.RsaProvider",
+			"io.jsonwebtoken.impl.crypto.EllipticCurveProvider",
+			"io.jsonwebtoken.jackson.io.JacksonSerializer",
+			"io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+	private static final List<Class<?>> ENTITIES = List.of(User.class, Authority.class, RefreshToken.class,
+			RevokedToken.class);
+
+	private static final List<Class<?>> DTOS = List.of(AuthorityDto.class, ErrorDto.class, LoginDto.class,
+			RefreshTokenDto.class, TokenDto.class, UserActivationDto.class, UserDto.class, UserImportDto.class,
+			UserImportResultDto.class, UserPageDto.class, UserSummaryDto.class, UserSnapshot.class);
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		for (String type : JJWT_TYPES) {
+			hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+					MemberCategory.INVOKE_DECLARED_METHODS);
+		}
+		hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+		// Hibernate가 필드에 직접 접근하고 프록시를 만든다
+		for (Class<?> entity : ENTITIES) {
+			hints.reflection().registerType(entity, MemberCategory.values());
+		}
+
+		// Jackson이 getter, setter, 생성자, 중첩 타입(UserImportResultDto.RowError 등)을 찾는다
+		new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), DTOS.toArray(new Class<?>[0]));
+
+		// 공유 캐시 저장소(SharedCacheStore)를 외부 저장소로 바꾸면 캐시 값을 Java 직렬화한다
+		hints.serialization().registerType(UserSnapshot.class);
+
+		hints.resources().registerPattern("db/migration/*.sql");
+	}
+}
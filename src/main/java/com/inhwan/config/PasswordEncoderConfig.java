@@ -0,0 +1,32 @@
+package com.inhwan.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.inhwan.util.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/* servlet, reactive 양쪽 SecurityConfig에서 함께 사용하는 PasswordEncoder */
+@Configuration
+public class PasswordEncoderConfig {
+
+	// BCrypt는 전용 스레드 풀에서만 수행하고, 풀이 가득 차면 바로 503으로 거절한다
+	@Bean PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+			@Value("${security.password.calibration-target-millis:250}") long calibrationTargetMillis,
+			@Value("${security.password.threads:0}") int threads,
+			@Value("${security.password.queue-capacity:64}") int queueCapacity,
+			@Value("${security.password.timeout-millis:5000}") long timeoutMillis,
+			MeterRegistry meterRegistry) {
+		// strength가 0이면 이 서버에서 calibration-target-millis 안에 끝나는 cost를 측정해서 사용
+		int cost = strength > 0 ? strength : BoundedPasswordEncoder.calibrate(calibrationTargetMillis);
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		
+		BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(cost, poolSize, queueCapacity, timeoutMillis, meterRegistry);
+		ExecutorServiceMetrics.monitor(meterRegistry, passwordEncoder.getExecutor(), "password.hashing");
+		return passwordEncoder;
+	}
+}
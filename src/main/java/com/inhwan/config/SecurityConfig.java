@@ -1,46 +1,66 @@
 package com.inhwan.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.web.filter.CorsFilter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inhwan.jwt.JwtAccessDeniedHandler;
 import com.inhwan.jwt.JwtAuthenticationEntryPoint;
 import com.inhwan.jwt.JwtSecurityConfig;
 import com.inhwan.jwt.TokenProvider;
+import com.inhwan.ratelimit.LoginRateLimitFilter;
+import com.inhwan.ratelimit.LoginRateLimiter;
+import com.inhwan.util.RoleExpressionParser;
 
 @EnableWebSecurity // 스프링 security 지원
 @EnableMethodSecurity(prePostEnabled = true) // PreAuthorized 어노테이션을 메서드 단위로 사용하기 위해
 @Configuration
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class SecurityConfig {
 
+	static final String ROLE_PREFIX = "ROLE_";	// DefaultMethodSecurityExpressionHandler의 기본 role prefix
+
 	private final TokenProvider tokenProvider;
 	private final CorsFilter corsFilter;
 	private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 	private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+	private final LoginRateLimiter loginRateLimiter;
+	private final ObjectMapper objectMapper;
 
 	public SecurityConfig(TokenProvider tokenProvider, 
 						CorsFilter corsFilter,
 						JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint, 
-						JwtAccessDeniedHandler jwtAccessDeniedHandler) {
+						JwtAccessDeniedHandler jwtAccessDeniedHandler,
+						LoginRateLimiter loginRateLimiter,
+						ObjectMapper objectMapper) {
 		this.tokenProvider = tokenProvider;
 		this.corsFilter = corsFilter;
 		this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
 		this.jwtAccessDeniedHandler = jwtAccessDeniedHandler;
-	}
-	
-	@Bean PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+		this.loginRateLimiter = loginRateLimiter;
+		this.objectMapper = objectMapper;
 	}
 
+	// @PreAuthorize("hasAnyRole(...)") 같은 권한 검사는 시작할 때 bitmask로 바꿔두고, 나머지 표현식만 SpEL로 평가
+	@Bean
+	static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+		DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+		expressionHandler.setExpressionParser(new RoleExpressionParser(ROLE_PREFIX));
+		return expressionHandler;
+	}
+	
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 		http
@@ -54,8 +74,10 @@ public class SecurityConfig {
 	            )
 	
 				.authorizeHttpRequests(authorizeHttpRequests -> authorizeHttpRequests
-						.requestMatchers("/api/hello", "/api/authenticate", "/api/signup").permitAll()
-						.requestMatchers(PathRequest.toH2Console()).permitAll().anyRequest().authenticated())
+						.requestMatchers("/api/hello", "/api/authenticate", "/api/refresh", "/api/signup", "/.well-known/jwks.json").permitAll()
+						.requestMatchers(PathRequest.toH2Console()).permitAll()
+						.requestMatchers("/actuator/health").permitAll()
+						.requestMatchers("/actuator/**").hasRole("ADMIN").anyRequest().authenticated())
 				
 				// 세션을 사용하지 않기 때문에 STATELESS로 설정
 	            .sessionManagement(sessionManagement ->
@@ -66,6 +88,12 @@ public class SecurityConfig {
 				// enable h2-console
 				.headers(headers -> headers.frameOptions(options -> options.sameOrigin()))
 				
+				// CORS preflight 요청이 인증 없이 통과하도록 가장 앞에 등록
+				.addFilterBefore(corsFilter, LogoutFilter.class)
+				
+				// 로그인 시도 제한은 JwtFilter, 인증 처리보다 앞에서 거절하도록 LogoutFilter 앞에 등록
+				.addFilterBefore(new LoginRateLimitFilter(loginRateLimiter, objectMapper), LogoutFilter.class)
+				
 				// addFilterBefore 메서드로 등록했던 JwtSecurity 클래스도 적용
 				.apply(new JwtSecurityConfig(tokenProvider));
 		
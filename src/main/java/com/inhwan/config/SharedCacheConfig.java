@@ -0,0 +1,19 @@
+package com.inhwan.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.inhwan.cache.InProcessSharedCacheStore;
+import com.inhwan.cache.SharedCacheStore;
+
+@Configuration
+/* 공유 캐시 저장소. 외부 저장소 구현을 빈으로 등록하면 그것을 사용하고, 없으면 JVM 내부 저장소를 사용 */
+public class SharedCacheConfig {
+
+	@Bean
+	@ConditionalOnMissingBean(SharedCacheStore.class)
+	public SharedCacheStore sharedCacheStore() {
+		return new InProcessSharedCacheStore();
+	}
+}
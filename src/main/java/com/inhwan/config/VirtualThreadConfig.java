@@ -0,0 +1,45 @@
+package com.inhwan.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/*
+ * spring.threads.virtual.enabled=true 일 때 Tomcat 요청 처리와 비동기 작업을 가상 스레드에서 수행
+ * 빌드는 Java 17 기준이므로 Executors.newVirtualThreadPerTaskExecutor를 리플렉션으로 찾고, JDK 21 이상에서 실행해야 한다.
+ * UserService의 @Transactional 메서드는 요청 스레드에서 실행되므로 같이 가상 스레드로 옮겨진다.
+ * BCrypt는 BoundedPasswordEncoder의 플랫폼 스레드 풀에서 그대로 수행된다. (CPU 작업이라 가상 스레드의 이점이 없음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+	// Tomcat 커넥터의 요청 처리 executor를 요청마다 가상 스레드를 만드는 executor로 교체
+	@Bean
+	public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+		return protocolHandler -> protocolHandler.setExecutor(newVirtualThreadPerTaskExecutor());
+	}
+
+	// StreamingResponseBody, @Async 등 MVC 비동기 작업도 가상 스레드에서 수행
+	@Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+	public AsyncTaskExecutor applicationTaskExecutor() {
+		return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+	}
+
+	static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("가상 스레드는 JDK 21 이상에서만 사용할 수 있습니다. (현재: "
+					+ Runtime.version() + ")", e);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.inhwan.controller;
+
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.inhwan.dto.UserActivationDto;
+import com.inhwan.dto.UserDto;
+import com.inhwan.dto.UserImportResultDto;
+import com.inhwan.dto.UserPageDto;
+import com.inhwan.service.UserExportService;
+import com.inhwan.service.UserImportService;
+import com.inhwan.service.UserImportService.Format;
+import com.inhwan.service.UserService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class AdminUserController {
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+
+    public AdminUserController(UserService userService, UserImportService userImportService, UserExportService userExportService) {
+        this.userService = userService;
+        this.userImportService = userImportService;
+        this.userExportService = userExportService;
+    }
+
+    // 유저 목록. 다음 페이지는 응답의 nextCursor를 after로 (prefix 검색이면 nextUsername을 afterUsername으로) 넘겨서 요청
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    public ResponseEntity<UserPageDto> getUsers(@RequestParam(defaultValue = "0") long after,
+                                                @RequestParam(required = false) String afterUsername,
+                                                @RequestParam(required = false) String prefix,
+                                                @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(userService.getUsers(after, afterUsername, prefix, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
+    // 계정 활성화/비활성화. 비활성화하면 발급된 토큰도 폐기된다
+    @PutMapping("/{username}/activation")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    public ResponseEntity<UserDto> setActivation(@PathVariable String username,
+                                                 @Valid @RequestBody UserActivationDto userActivationDto) {
+        return ResponseEntity.ok(userService.setActivated(username, userActivationDto.getActivated()));
+    }
+
+    // 요청 본문을 메모리에 올리지 않고 한 줄씩 읽어서 가입시킨다 (Content-Type: application/x-ndjson 또는 text/csv)
+    @PostMapping(value = "/import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, "text/csv" })
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    public ResponseEntity<UserImportResultDto> importUsers(HttpServletRequest request) throws IOException {
+        Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? Format.CSV
+                : Format.NDJSON;
+        return ResponseEntity.ok(userImportService.importUsers(request.getInputStream(), format));
+    }
+
+    // 전체 유저 내보내기. 응답은 별도 스레드에서 DB 커서를 읽으며 바로 쓴다 (format=ndjson|csv, gzip=true면 gzip 압축)
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(defaultValue = "false") boolean gzip) {
+        UserExportService.Format exportFormat = "csv".equalsIgnoreCase(format) ? UserExportService.Format.CSV : UserExportService.Format.NDJSON;
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192);
+                userExportService.export(gzipOutputStream, exportFormat);
+                gzipOutputStream.finish();
+            } else {
+                userExportService.export(outputStream, exportFormat);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == UserExportService.Format.CSV ? MediaType.parseMediaType("text/csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + exportFormat.name().toLowerCase() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -1,5 +1,7 @@
 package com.inhwan.controller;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,22 +15,24 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.inhwan.dto.LoginDto;
+import com.inhwan.dto.RefreshTokenDto;
 import com.inhwan.dto.TokenDto;
 import com.inhwan.jwt.JwtFilter;
-import com.inhwan.jwt.TokenProvider;
+import com.inhwan.service.RefreshTokenService;
 
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class AuthController {
-    private final TokenProvider tokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final RefreshTokenService refreshTokenService;
 
-    // 토큰 프로바이더와 어센티케이션 매니저 빌더를 주입 받음
-    public AuthController(TokenProvider tokenProvider, AuthenticationManagerBuilder authenticationManagerBuilder) {
-        this.tokenProvider = tokenProvider;
+    // 어센티케이션 매니저 빌더와 refresh token 서비스를 주입 받음
+    public AuthController(AuthenticationManagerBuilder authenticationManagerBuilder, RefreshTokenService refreshTokenService) {
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @PostMapping("/authenticate")
@@ -44,14 +48,24 @@ public class AuthController {
         //생성한 authentication 객체를 SecurityContext에 저장
         SecurityContextHolder.getContext().setAuthentication(authentication);
         
-        //생성한 authentication 객체를 createToken 메서드를 통해 JWT 토큰 생성
-        String jwt = tokenProvider.createToken(authentication);
+        //생성한 authentication 객체로 access token(JWT)과 refresh token 생성
+        TokenDto tokenDto = refreshTokenService.issue(authentication);
 
+        return tokenResponse(tokenDto);
+    }
+
+    @PostMapping("/refresh")
+    // refresh token을 교체하면서 새 access token을 발급 (비밀번호 검증 없이 인덱스 조회만 수행)
+    public ResponseEntity<TokenDto> refresh(@Valid @RequestBody RefreshTokenDto refreshTokenDto) {
+        return tokenResponse(refreshTokenService.rotate(refreshTokenDto.getRefreshToken()));
+    }
+
+    private ResponseEntity<TokenDto> tokenResponse(TokenDto tokenDto) {
         //JWT토큰을 Response Header에 넣는다
         HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
+        httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + tokenDto.getToken());
         
         // Response Body에도 넣고 리턴한다.
-        return new ResponseEntity<>(new TokenDto(jwt), httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(tokenDto, httpHeaders, HttpStatus.OK);
     }
 }
\ No newline at end of file
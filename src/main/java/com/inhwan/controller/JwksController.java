@@ -0,0 +1,40 @@
+package com.inhwan.controller;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inhwan.jwt.SigningKeyStrategy;
+
+@RestController
+/* 다른 서비스가 토큰을 직접 검증할 수 있도록 서명 공개키를 JWKS 형식으로 공개 */
+public class JwksController {
+	private static final Duration STATIC_KEY_MAX_AGE = Duration.ofMinutes(5);
+
+	private final SigningKeyStrategy signingKeyStrategy;
+	private final CacheControl cacheControl;
+
+	public JwksController(SigningKeyStrategy signingKeyStrategy,
+			@Value("${jwt.signing.key-ring-file:}") String keyRingFile,
+			@Value("${jwt.signing.key-ring-reload-interval-seconds:10}") long reloadIntervalSeconds) {
+		this.signingKeyStrategy = signingKeyStrategy;
+		// 키 묶음 파일을 쓰면 다시 읽을 때마다 새 kid가 active가 될 수 있으므로,
+		// 검증하는 쪽 캐시가 새 kid를 모르는 시간이 다시 읽는 주기를 넘지 않도록 max-age를 맞춘다
+		Duration maxAge = StringUtils.hasText(keyRingFile) ? Duration.ofSeconds(reloadIntervalSeconds) : STATIC_KEY_MAX_AGE;
+		this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+	}
+
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+		return ResponseEntity.ok()
+				.cacheControl(cacheControl)
+				.body(Map.of("keys", signingKeyStrategy.getPublicJwks()));
+	}
+}
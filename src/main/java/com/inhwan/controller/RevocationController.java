@@ -0,0 +1,56 @@
+package com.inhwan.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inhwan.dto.RefreshTokenDto;
+import com.inhwan.jwt.JwtAuthenticationToken;
+import com.inhwan.service.TokenRevocationService;
+
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class RevocationController {
+    private final TokenRevocationService tokenRevocationService;
+
+    public RevocationController(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @PostMapping("/logout")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    // 현재 요청에 사용된 access token과, 본문으로 받은 refresh token의 교체 묶음을 폐기
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshTokenDto refreshTokenDto) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String refreshToken = refreshTokenDto != null ? refreshTokenDto.getRefreshToken() : null;
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+            tokenRevocationService.logout(jwtAuthentication.getName(), jwtAuthentication.getTokenId(),
+                    jwtAuthentication.getExpiration().toInstant(), refreshToken);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/admin/revocations/tokens/{jti}")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    public ResponseEntity<Void> revokeToken(@PathVariable String jti) {
+        tokenRevocationService.revokeToken(jti);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/admin/revocations/users/{username}")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    // 유저의 모든 access token과 refresh token을 폐기
+    public ResponseEntity<Void> revokeUser(@PathVariable String username) {
+        tokenRevocationService.revokeUser(username);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,6 +2,8 @@ package com.inhwan.controller;
 
 import java.io.IOException;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +22,7 @@ import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api")
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class UserController {
     private final UserService userService;
 
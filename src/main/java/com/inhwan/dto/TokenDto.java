@@ -14,5 +14,7 @@ import lombok.Setter;
 public class TokenDto {
 	
 	private String token;
+	
+	private String refreshToken;
 
 }
@@ -47,4 +47,16 @@ public class UserDto {
                       .collect(Collectors.toSet()))
               .build();
    }
+
+   public static UserDto from(UserSnapshot user) {
+      if(user == null) return null;
+
+      return UserDto.builder()
+              .username(user.getUsername())
+              .nickname(user.getNickname())
+              .authorityDtoSet(user.getAuthorityNames().stream()
+                      .map(authorityName -> AuthorityDto.builder().authorityName(authorityName).build())
+                      .collect(Collectors.toSet()))
+              .build();
+   }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.inhwan.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 대량 가입 파일의 한 줄 (NDJSON 한 줄 또는 CSV 한 행)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportDto {
+
+	@NotNull
+	@Size(min = 3, max = 50)
+	private String username;
+
+	@NotNull
+	@Size(min = 3, max = 100)
+	private String password;
+
+	@NotNull
+	@Size(min = 3, max = 50)
+	private String nickname;
+
+	// 비어 있으면 ROLE_USER
+	private List<String> authorities;
+}
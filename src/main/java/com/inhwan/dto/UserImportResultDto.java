@@ -0,0 +1,36 @@
+package com.inhwan.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 대량 가입 결과. 실패한 행은 줄 번호와 이유를 남긴다
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportResultDto {
+
+	private long total;
+
+	private long imported;
+
+	private long failed;
+
+	@Builder.Default
+	private List<RowError> errors = new ArrayList<>();
+
+	@Getter
+	@AllArgsConstructor
+	public static class RowError {
+		private final long line;
+		private final String username;
+		private final String message;
+	}
+}
@@ -0,0 +1,24 @@
+package com.inhwan.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// keyset 페이지. 다음 페이지는 after=nextCursor (prefix 검색이면 afterUsername=nextUsername) 로 요청하고, 마지막 페이지면 둘 다 null
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPageDto {
+
+	private List<UserSummaryDto> users;
+
+	private Long nextCursor;
+
+	private String nextUsername;
+}
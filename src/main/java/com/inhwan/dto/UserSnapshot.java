@@ -0,0 +1,41 @@
+package com.inhwan.dto;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.inhwan.entity.Authority;
+import com.inhwan.entity.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/* 캐시에 저장하는 유저와 권한 정보의 불변 projection (영속성 컨텍스트와 분리되어 있고, 공유 캐시에 저장할 수 있도록 직렬화 가능) */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserSnapshot implements Serializable {
+
+   private static final long serialVersionUID = 1L;
+
+   private final Long userId;
+   private final String username;
+   private final String password;
+   private final String nickname;
+   private final boolean activated;
+   private final Set<String> authorityNames;
+
+   public static UserSnapshot from(User user) {
+      return UserSnapshot.builder()
+              .userId(user.getUserId())
+              .username(user.getUsername())
+              .password(user.getPassword())
+              .nickname(user.getNickname())
+              .activated(user.isActivated())
+              .authorityNames(user.getAuthorities().stream()
+                      .map(Authority::getAuthorityName)
+                      .collect(Collectors.toUnmodifiableSet()))
+              .build();
+   }
+}
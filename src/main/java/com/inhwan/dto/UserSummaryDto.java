@@ -0,0 +1,33 @@
+package com.inhwan.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 관리자 유저 목록의 한 행. JPQL constructor projection으로 엔티티를 만들지 않고 바로 채운다
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserSummaryDto {
+
+	private Long userId;
+
+	private String username;
+
+	private String nickname;
+
+	private boolean activated;
+
+	// 페이지 단위로 한 번에 조회해서 채운다
+	private List<String> authorities = new ArrayList<>();
+
+	public UserSummaryDto(Long userId, String username, String nickname, boolean activated) {
+		this.userId = userId;
+		this.username = username;
+		this.nickname = nickname;
+		this.activated = activated;
+	}
+}
@@ -1,5 +1,9 @@
 package com.inhwan.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -12,6 +16,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "authority")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)	// 권한 목록은 추가만 되고 바뀌지 않는다 (prod 프로필에서 2차 캐시 사용)
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,60 @@
+package com.inhwan.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "refresh_token", indexes = {
+		@Index(name = "idx_refresh_token_hash", columnList = "token_hash", unique = true),
+		@Index(name = "idx_refresh_token_family", columnList = "family_id"),
+		@Index(name = "idx_refresh_token_expires_at", columnList = "expires_at") })
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken {
+
+	@Id
+	@Column(name = "refresh_token_id")
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long refreshTokenId;
+
+	// 원문 토큰은 저장하지 않고 SHA-256 해시만 저장
+	@Column(name = "token_hash", length = 64, nullable = false)
+	private String tokenHash;
+
+	// 같은 로그인에서 이어서 발급된 토큰 묶음. 재사용이 감지되면 묶음 전체를 폐기한다
+	@Column(name = "family_id", length = 36, nullable = false)
+	private String familyId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	// 이 시각이 지나면 사용, 폐기 여부와 관계없이 행을 정리한다 (그 전까지는 재사용 감지에 필요)
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	// 이미 새 토큰으로 교체된 토큰
+	@Column(name = "used")
+	private boolean used;
+
+	@Column(name = "revoked")
+	private boolean revoked;
+}
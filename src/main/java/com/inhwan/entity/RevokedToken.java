@@ -0,0 +1,47 @@
+package com.inhwan.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "revoked_token", indexes = {
+		@Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"),
+		@Index(name = "idx_revoked_token_expires_at", columnList = "expires_at") })
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+
+	@Id
+	@Column(name = "revoked_token_id")
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long revokedTokenId;
+
+	// 토큰 하나를 폐기할 때는 jti, 유저의 모든 토큰을 폐기할 때는 username을 저장
+	@Column(name = "jti", length = 36)
+	private String jti;
+
+	@Column(name = "username", length = 50)
+	private String username;
+
+	@Column(name = "revoked_at", nullable = false)
+	private Instant revokedAt;
+
+	// 이 시각이 지나면 폐기된 토큰도 만료되므로 기록을 정리한다
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+}
@@ -9,9 +9,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +22,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "`user`")
+@Table(name = "`user`", indexes = @Index(name = "idx_user_username", columnList = "username", unique = true))
 @Getter
 @Setter
 @Builder
@@ -31,10 +33,12 @@ public class User {
 	@JsonIgnore
 	@Id
 	@Column(name = "user_id")
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// IDENTITY는 insert마다 id를 받아와야 해서 JDBC batch가 꺼지므로 시퀀스를 50개씩 미리 할당받아 사용
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+	@SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
 	private Long userId;
 	
-	@Column(name = "username", length = 50, unique = true)
+	@Column(name = "username", length = 50)
 	private String username;
 	
 	@JsonIgnore
@@ -51,7 +55,8 @@ public class User {
 	@JoinTable(
 			name = "user_authority",
 			joinColumns = {@JoinColumn(name = "user_id", referencedColumnName = "user_id")},
-			inverseJoinColumns = {@JoinColumn(name = "authority_name", referencedColumnName = "authority_name")})
+			inverseJoinColumns = {@JoinColumn(name = "authority_name", referencedColumnName = "authority_name")},
+			indexes = @Index(name = "idx_user_authority_user_id", columnList = "user_id"))
 	private Set<Authority> authorities;
 	
 }
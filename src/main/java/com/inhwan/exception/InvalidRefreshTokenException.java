@@ -0,0 +1,16 @@
+package com.inhwan.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException() {
+        super();
+    }
+    public InvalidRefreshTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+    public InvalidRefreshTokenException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.inhwan.exception;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException() {
+        super();
+    }
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+    public PasswordHashingRejectedException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -4,6 +4,8 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 import java.util.List;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.validation.BindingResult;
@@ -17,6 +19,7 @@ import com.inhwan.dto.ErrorDto;
 
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @ControllerAdvice
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class MethodArgumentNotValidExceptionHandler {
 
     @ResponseStatus(BAD_REQUEST)
@@ -2,7 +2,11 @@ package com.inhwan.handler;
 
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,9 +17,12 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 import com.inhwan.dto.ErrorDto;
 import com.inhwan.exception.DuplicateMemberException;
+import com.inhwan.exception.InvalidRefreshTokenException;
 import com.inhwan.exception.NotFoundMemberException;
+import com.inhwan.exception.PasswordHashingRejectedException;
 
 @ControllerAdvice
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class RestResponseExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ResponseStatus(CONFLICT)
@@ -31,4 +38,18 @@ public class RestResponseExceptionHandler extends ResponseEntityExceptionHandler
     protected ErrorDto forbidden(RuntimeException ex, WebRequest request) {
         return new ErrorDto(FORBIDDEN.value(), ex.getMessage());
     }
+
+    @ResponseStatus(UNAUTHORIZED)
+    @ExceptionHandler(value = { InvalidRefreshTokenException.class })
+    @ResponseBody
+    protected ErrorDto unauthorized(RuntimeException ex, WebRequest request) {
+        return new ErrorDto(UNAUTHORIZED.value(), ex.getMessage());
+    }
+
+    @ResponseStatus(SERVICE_UNAVAILABLE)
+    @ExceptionHandler(value = { PasswordHashingRejectedException.class })
+    @ResponseBody
+    protected ErrorDto serviceUnavailable(RuntimeException ex, WebRequest request) {
+        return new ErrorDto(SERVICE_UNAVAILABLE.value(), ex.getMessage());
+    }
 }
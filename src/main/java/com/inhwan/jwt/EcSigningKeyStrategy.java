@@ -0,0 +1,105 @@
+package com.inhwan.jwt;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/* EC 키 쌍(ES256/ES384/ES512)으로 서명하는 방식. 검증하는 쪽은 공개키만 있으면 된다 */
+public class EcSigningKeyStrategy implements SigningKeyStrategy {
+
+	private final SignatureAlgorithm algorithm;
+	private final String keyId;
+	private final KeyPair keyPair;
+	private final SigningKey activeKey;
+	private final List<Map<String, Object>> publicJwks;
+
+	public EcSigningKeyStrategy(SignatureAlgorithm algorithm, String keyId, KeyPair keyPair) {
+		if (!algorithm.isEllipticCurve()) {
+			throw new IllegalArgumentException(algorithm + " 는 EC 알고리즘이 아닙니다.");
+		}
+		this.algorithm = algorithm;
+		this.keyId = keyId;
+		this.keyPair = keyPair;
+		this.activeKey = new SigningKey(keyId, algorithm, keyPair.getPrivate());
+		this.publicJwks = List.of(toJwk(algorithm, keyId, (ECPublicKey) keyPair.getPublic()));
+	}
+
+	@Override
+	public SignatureAlgorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	@Override
+	public String getKeyId() {
+		return keyId;
+	}
+
+	@Override
+	public Key getSigningKey() {
+		return keyPair.getPrivate();
+	}
+
+	@Override
+	public SigningKey getActiveKey() {
+		return activeKey;
+	}
+
+	@Override
+	public Key getVerificationKey(String keyId) {
+		if (keyId == null || keyId.equals(this.keyId)) {
+			return keyPair.getPublic();
+		}
+		throw new io.jsonwebtoken.security.SignatureException("알 수 없는 kid 입니다: " + keyId);
+	}
+
+	@Override
+	public List<Map<String, Object>> getPublicJwks() {
+		return publicJwks;
+	}
+
+	// RFC 7518 형식의 EC 공개키 JWK
+	static Map<String, Object> toJwk(SignatureAlgorithm algorithm, String keyId, ECPublicKey publicKey) {
+		int size = (publicKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+		Map<String, Object> jwk = new LinkedHashMap<>();
+		jwk.put("kty", "EC");
+		jwk.put("crv", curveName(algorithm));
+		jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX(), size));
+		jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY(), size));
+		jwk.put("use", "sig");
+		jwk.put("alg", algorithm.getValue());
+		jwk.put("kid", keyId);
+		return jwk;
+	}
+
+	private static String curveName(SignatureAlgorithm algorithm) {
+		switch (algorithm) {
+			case ES256:
+				return "P-256";
+			case ES384:
+				return "P-384";
+			default:
+				return "P-521";
+		}
+	}
+
+	// 좌표값을 부호 없는 고정 길이 big-endian 바이트로 바꿔서 base64url 인코딩
+	private static String encodeCoordinate(BigInteger value, int size) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > size) {
+			bytes = Arrays.copyOfRange(bytes, bytes.length - size, bytes.length);
+		} else if (bytes.length < size) {
+			byte[] padded = new byte[size];
+			System.arraycopy(bytes, 0, padded, size - bytes.length, bytes.length);
+			bytes = padded;
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}
@@ -0,0 +1,58 @@
+package com.inhwan.jwt;
+
+import java.security.Key;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/* jwt.secret 을 사용하는 HS512 공유 secret 서명 방식 */
+public class HmacSigningKeyStrategy implements SigningKeyStrategy {
+
+	private final String keyId;
+	private final Key key;
+	private final SigningKey activeKey;
+
+	public HmacSigningKeyStrategy(String secret, String keyId) {
+		byte[] keyBytes = Decoders.BASE64.decode(secret); // 주입받은 secret값을 Base64 Decode
+		this.key = Keys.hmacShaKeyFor(keyBytes);
+		this.keyId = keyId;
+		this.activeKey = new SigningKey(keyId, SignatureAlgorithm.HS512, key);
+	}
+
+	@Override
+	public SignatureAlgorithm getAlgorithm() {
+		return SignatureAlgorithm.HS512;
+	}
+
+	@Override
+	public String getKeyId() {
+		return keyId;
+	}
+
+	@Override
+	public Key getSigningKey() {
+		return key;
+	}
+
+	@Override
+	public SigningKey getActiveKey() {
+		return activeKey;
+	}
+
+	@Override
+	public Key getVerificationKey(String keyId) {
+		if (keyId == null || keyId.equals(this.keyId)) {
+			return key;
+		}
+		throw new io.jsonwebtoken.security.SignatureException("알 수 없는 kid 입니다: " + keyId);
+	}
+
+	@Override
+	public List<Map<String, Object>> getPublicJwks() {
+		return Collections.emptyList();	// 대칭키는 공개하지 않는다
+	}
+}
@@ -4,11 +4,13 @@ import java.io.IOException;
 
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+@Component
 //필요한 권한이 존재하지 않는 경우에 403 Forbidden Error Return
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
 
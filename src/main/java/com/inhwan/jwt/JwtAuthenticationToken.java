@@ -0,0 +1,219 @@
+package com.inhwan.jwt;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.inhwan.util.AuthorityRegistry;
+
+import io.jsonwebtoken.Claims;
+
+/*
+ * 검증된 JWT 토큰으로 만든 Authentication 객체
+ * UsernamePasswordAuthenticationToken, User와 달리 권한 목록을 복사하지 않고 AuthorityRegistry의 공유 리스트를 그대로 사용한다.
+ * 서명, 만료, 폐기 확인에 필요한 subject, jti, iat만 먼저 꺼내고, 권한 목록, 만료 시각, principal은
+ * Spring Security나 SecurityUtil이 처음 읽을 때 claims에서 꺼낸다 (권한을 읽지 않는 요청은 만들지 않음).
+ * 요청 안에서 비동기로 넘겨진 SecurityContext처럼 여러 스레드가 같은 객체를 읽을 수 있으므로 lazy 필드는 volatile로 둔다.
+ * (TokenAuthenticationCache는 불변 값만 캐싱하고 요청마다 새 객체를 만든다)
+ */
+public class JwtAuthenticationToken implements Authentication {
+
+	private static final long serialVersionUID = 1L;
+	private static final long UNRESOLVED_MASK = -2;
+
+	private final String username;
+	private final String token;
+	private final String tokenId;
+	private final Date issuedAt;
+	private transient volatile Claims claims;	// 아직 꺼내지 않은 값이 남아 있으면 검증된 claims, 다 꺼낸 뒤에는 null
+	private final transient TokenMetrics tokenMetrics;	// claims에서 권한 목록을 꺼내는 시간 (jwt.token.authentication)
+	private volatile List<GrantedAuthority> authorities;
+	private Date expiration;	// authorities보다 먼저 쓰고, authorities를 읽은 뒤에만 읽는다
+	private volatile JwtPrincipal principal;
+	private boolean authenticated = true;
+	private volatile long roleMask = UNRESOLVED_MASK;	// 처음 권한 검사할 때 계산 (같은 값으로만 덮어쓰므로 동기화하지 않음, long이라 찢어진 값을 읽지 않도록 volatile)
+
+	public JwtAuthenticationToken(String username, String token, List<GrantedAuthority> authorities,
+			String tokenId, Date issuedAt, Date expiration) {
+		this.username = username;
+		this.token = token;
+		this.tokenId = tokenId;
+		this.issuedAt = issuedAt;
+		this.expiration = expiration;
+		this.authorities = authorities;
+		this.tokenMetrics = null;
+	}
+
+	// 권한 목록과 만료 시각은 처음 필요할 때 claims에서 꺼낸다
+	JwtAuthenticationToken(String username, String token, String tokenId, Date issuedAt, Claims claims,
+			TokenMetrics tokenMetrics) {
+		this.username = username;
+		this.token = token;
+		this.tokenId = tokenId;
+		this.issuedAt = issuedAt;
+		this.claims = claims;
+		this.tokenMetrics = tokenMetrics;
+	}
+
+	// 토큰의 jti (로그아웃, 폐기 확인에 사용)
+	public String getTokenId() {
+		return tokenId;
+	}
+
+	public Date getIssuedAt() {
+		return issuedAt;
+	}
+
+	public Date getExpiration() {
+		resolve();
+		return expiration;
+	}
+
+	// 권한 목록의 bitmask (AuthorityRegistry의 bit 위치), bit가 없는 권한이 섞여 있으면 -1
+	public long getRoleMask() {
+		long mask = roleMask;
+		if (mask == UNRESOLVED_MASK) {
+			Claims source = claims;
+			Long claimMask = source != null ? source.get(TokenProvider.ROLES_KEY, Long.class) : null;
+			// compact 형식 토큰은 권한 목록을 만들지 않고 claim의 bitmask를 그대로 사용
+			mask = claimMask != null ? claimMask : AuthorityRegistry.mask(resolve());
+			roleMask = mask;
+		}
+		return mask;
+	}
+
+	// claims에서 권한 목록과 만료 시각을 꺼낸다. 여러 스레드가 동시에 꺼내도 같은 공유 리스트가 나온다
+	private List<GrantedAuthority> resolve() {
+		List<GrantedAuthority> resolved = authorities;
+		if (resolved != null) {
+			return resolved;
+		}
+
+		Claims source = claims;
+		if (source == null) {
+			return authorities;	// 다른 스레드가 authorities를 쓴 뒤 claims를 비웠다
+		}
+		long start = System.nanoTime();
+		expiration = source.getExpiration();
+		resolved = TokenProvider.resolveAuthorities(source);
+		authorities = resolved;
+		claims = null;	// 다 꺼냈으므로 claims map은 더 이상 붙잡고 있지 않는다
+		if (tokenMetrics != null) {
+			tokenMetrics.recordAuthentication(start);
+		}
+		return resolved;
+	}
+
+	// 직렬화하기 전에 lazy 값을 모두 꺼낸다 (claims는 직렬화하지 않음)
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		resolve();
+		out.defaultWriteObject();
+	}
+
+	@Override
+	public String getName() {
+		return username;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return resolve();
+	}
+
+	@Override
+	public Object getCredentials() {
+		return token;
+	}
+
+	@Override
+	public Object getDetails() {
+		return null;
+	}
+
+	@Override
+	public Object getPrincipal() {
+		JwtPrincipal current = principal;
+		if (current == null) {
+			current = new JwtPrincipal(this);
+			principal = current;
+		}
+		return current;
+	}
+
+	@Override
+	public boolean isAuthenticated() {
+		return authenticated;
+	}
+
+	@Override
+	public void setAuthenticated(boolean isAuthenticated) {
+		if (isAuthenticated) {	// UsernamePasswordAuthenticationToken과 같이 인증 상태로 바꾸는 것은 막는다
+			throw new IllegalArgumentException("Cannot set this token to trusted");
+		}
+		this.authenticated = false;
+	}
+
+	@Override
+	public String toString() {
+		// 필드는 처음 읽기 전까지 null이라 resolve()로 출력한다 (getAuthorities와 같은 목록)
+		return getClass().getSimpleName() + " [Principal=" + getName() + ", Granted Authorities=" + resolve() + "]";
+	}
+
+	// 토큰의 subject와 권한만 가지는 가벼운 UserDetails (비밀번호는 없음), 권한은 토큰에서 필요할 때 꺼낸다
+	static final class JwtPrincipal implements UserDetails {
+
+		private static final long serialVersionUID = 1L;
+
+		private final JwtAuthenticationToken authentication;
+
+		private JwtPrincipal(JwtAuthenticationToken authentication) {
+			this.authentication = authentication;
+		}
+
+		@Override
+		public Collection<? extends GrantedAuthority> getAuthorities() {
+			return authentication.getAuthorities();
+		}
+
+		@Override
+		public String getPassword() {
+			return "";
+		}
+
+		@Override
+		public String getUsername() {
+			return authentication.getName();
+		}
+
+		@Override
+		public boolean isAccountNonExpired() {
+			return true;
+		}
+
+		@Override
+		public boolean isAccountNonLocked() {
+			return true;
+		}
+
+		@Override
+		public boolean isCredentialsNonExpired() {
+			return true;
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return authentication.getName();
+		}
+	}
+}
@@ -37,15 +37,20 @@ public class JwtFilter extends GenericFilterBean {
 		String jwt = resolveToken(httpServletRequest);	// request로부터 토큰을 받는다
 		String requestURI = httpServletRequest.getRequestURI();
 		
-		if(StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {	// 토큰의 유효성 검사를 수행한다.
-			Authentication authentication = tokenProvider.getAuthentication(jwt);	//토큰이 유효하다면 Authentication 객체를 받아 
-			SecurityContextHolder.getContext().setAuthentication(authentication); 	//객체를 set해준다
-			logger.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), requestURI);
+		if(StringUtils.hasText(jwt)) {
+			TokenVerificationResult result = tokenProvider.authenticate(jwt);	// 토큰을 한 번만 파싱해서 유효성 검사와 Authentication 생성을 같이 수행한다.
+			if(result.isValid()) {
+				Authentication authentication = result.getAuthentication();	//토큰이 유효하다면 Authentication 객체를 받아 
+				SecurityContextHolder.getContext().setAuthentication(authentication); 	//객체를 set해준다
+				logger.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), requestURI);
+			} else {
+				logger.debug("{} uri: {}", result.getFailureReason().getMessage(), requestURI);	// 사유별 횟수는 jwt.token.failures 로 집계
+			}
 		} else {
 			logger.debug("유효한 JWT 토큰이 없습니다, Uri: {}", requestURI);
 		}
 		
-		
+		chain.doFilter(request, response);	// 다음 필터로 요청을 넘긴다
 	}
 	
 	// 필터링을 하기 위해서 필요한 토큰을 전달하는 메서드
@@ -0,0 +1,54 @@
+package com.inhwan.jwt;
+
+import java.security.Key;
+import java.util.Map;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Deserializer;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonDeserializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
+
+/* JWS(JSON) 형식. prefix가 없는 기존 토큰은 모두 이 codec으로 읽는다 */
+public class JwtTokenCodec implements TokenCodec {
+
+	// ServiceLoader로 직렬화 구현을 찾지 않도록 직접 지정 (시작 시간, native image의 reflection 설정을 줄임)
+	private static final Serializer<Map<String, ?>> SERIALIZER = new JacksonSerializer<>();
+	private static final Deserializer<Map<String, ?>> DESERIALIZER = new JacksonDeserializer<>();
+
+	private final SigningKeyStrategy signingKeyStrategy;
+	private final JwtParser jwtParser;	// 불변 객체라서 한 번 만들어두고 모든 요청에서 재사용
+
+	public JwtTokenCodec(SigningKeyStrategy signingKeyStrategy) {
+		this.signingKeyStrategy = signingKeyStrategy;
+		// 토큰 헤더의 kid로 검증 키를 찾는 parser를 한 번만 만들어둔다
+		this.jwtParser = Jwts.parserBuilder()
+				.deserializeJsonWith(DESERIALIZER)
+				.setSigningKeyResolver(new SigningKeyResolverAdapter() {
+					@Override
+					public Key resolveSigningKey(JwsHeader header, Claims claims) {
+						return signingKeyStrategy.getVerificationKey(header.getKeyId());
+					}
+				})
+				.build();
+	}
+
+	@Override
+	public boolean supports(String token) {
+		return true;
+	}
+
+	@Override
+	public String encode(Claims claims, SigningKey signingKey) {
+		return SigningKeyStrategy.signWith(Jwts.builder().serializeToJsonWith(SERIALIZER).setClaims(claims), signingKey).compact();	// 넘겨받은 서명 키(kid 헤더 포함)로 토큰을 생성
+	}
+
+	@Override
+	public Claims decode(String token) {
+		return jwtParser.parseClaimsJws(token).getBody();
+	}
+}
@@ -0,0 +1,250 @@
+package com.inhwan.jwt;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/*
+ * 로컬 파일에서 읽어오는 서명 키 묶음 (재시작 없이 키 교체)
+ * 서명은 active 키 하나로만 하고, 검증은 kid로 모든 키 중에서 찾는다.
+ * 더 이상 서명하지 않는 키는 파일에 "retired-at"을 적어서 남겨두면 그 시각부터 가장 긴 토큰 유효기간 동안 검증용으로만 쓰고,
+ * 재시작해도 유지된다. 파일에서 아예 빠진 키는 실행 중인 동안에만 같은 기간 남겨둔다 (재시작하면 바로 사라짐).
+ * JWKS 응답은 다시 읽는 주기만큼 캐싱되므로, 새 키는 먼저 active가 아닌 키로 추가하고 그 주기의 두 배 이상 지난 뒤에 active로 바꾼다.
+ *
+ * {
+ *   "active": "2026-10",
+ *   "keys": [
+ *     { "kid": "2026-09", "alg": "HS512", "secret": "<base64>", "retired-at": "2026-10-01T00:00:00Z" },
+ *     { "kid": "2026-10", "alg": "ES256", "private-key-pem": "/path/private.pem", "public-key-pem": "/path/public.pem" }
+ *   ]
+ * }
+ */
+public class KeyRingSigningKeyStrategy implements SigningKeyStrategy, DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(KeyRingSigningKeyStrategy.class);
+
+	private final Path keyRingFile;
+	private final Duration retention;	// 파일에서 빠진 키를 검증용으로 남겨두는 기간 (가장 긴 토큰 유효기간)
+	private final Clock clock;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ScheduledExecutorService watcher;
+
+	private volatile KeyRing keyRing;
+	private FileTime lastModified;
+
+	public KeyRingSigningKeyStrategy(Path keyRingFile, Duration retention, Duration reloadInterval) {
+		this(keyRingFile, retention, reloadInterval, Clock.systemUTC());
+	}
+
+	KeyRingSigningKeyStrategy(Path keyRingFile, Duration retention, Duration reloadInterval, Clock clock) {
+		this.keyRingFile = keyRingFile;
+		this.retention = retention;
+		this.clock = clock;
+		this.keyRing = load(null);	// 처음 로딩에 실패하면 애플리케이션을 띄우지 않는다
+
+		this.watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "jwt-key-ring-watcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = reloadInterval.toMillis();
+		watcher.scheduleWithFixedDelay(this::reloadIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public SignatureAlgorithm getAlgorithm() {
+		return keyRing.active.algorithm;
+	}
+
+	@Override
+	public String getKeyId() {
+		return keyRing.active.keyId;
+	}
+
+	@Override
+	public Key getSigningKey() {
+		return keyRing.active.signingKey;
+	}
+
+	@Override
+	public SigningKey getActiveKey() {
+		return keyRing.activeKey;	// 스냅샷을 만들 때 묶어둔 kid, 알고리즘, 키
+	}
+
+	@Override
+	public Key getVerificationKey(String keyId) {
+		KeyRing current = keyRing;
+		if (keyId == null) {
+			return current.active.verificationKey;
+		}
+
+		RingKey ringKey = current.keys.get(keyId);	// kid로 O(1) 조회
+		if (ringKey == null) {
+			throw new io.jsonwebtoken.security.SignatureException("알 수 없는 kid 입니다: " + keyId);
+		}
+		return ringKey.verificationKey;
+	}
+
+	@Override
+	public List<Map<String, Object>> getPublicJwks() {
+		return keyRing.jwks;
+	}
+
+	@Override
+	public void destroy() {
+		watcher.shutdownNow();
+	}
+
+	// 파일이 바뀌었으면 다시 읽고, 보관 기간이 지난 키는 정리한다
+	void reloadIfChanged() {
+		try {
+			FileTime modified = Files.getLastModifiedTime(keyRingFile);
+			if (!modified.equals(lastModified)) {
+				keyRing = load(keyRing);
+				logger.info("JWT 서명 키 파일을 다시 읽었습니다. active kid: {}, 검증 키: {}", keyRing.active.keyId, keyRing.keys.keySet());
+			} else {
+				KeyRing pruned = keyRing.prune(clock.instant());
+				if (pruned != keyRing) {
+					keyRing = pruned;
+					logger.info("보관 기간이 지난 JWT 서명 키를 제거했습니다. 검증 키: {}", pruned.keys.keySet());
+				}
+			}
+		} catch (RuntimeException | IOException e) {
+			// 잘못된 파일이 올라와도 기존 키로 계속 동작한다
+			logger.error("JWT 서명 키 파일을 읽을 수 없어 기존 키를 계속 사용합니다: {}", keyRingFile, e);
+		}
+	}
+
+	private KeyRing load(KeyRing previous) {
+		try {
+			FileTime modified = Files.getLastModifiedTime(keyRingFile);
+			JsonNode root = objectMapper.readTree(keyRingFile.toFile());
+			String activeKeyId = root.path("active").asText(null);
+
+			Map<String, RingKey> keys = new HashMap<>();
+			for (JsonNode node : root.path("keys")) {
+				RingKey ringKey = parseKey(node);
+				JsonNode retiredAt = node.path("retired-at");
+				if (retiredAt.isTextual()) {
+					ringKey = ringKey.retire(Instant.parse(retiredAt.asText()).plus(retention));	// 검증용으로만 남긴다
+				}
+				keys.put(ringKey.keyId, ringKey);
+			}
+
+			RingKey active = keys.get(activeKeyId);
+			if (active == null || active.signingKey == null) {
+				throw new IllegalStateException("active kid '" + activeKeyId + "' 에 해당하는 서명 키가 없습니다.");
+			}
+
+			// 이전 파일에 있었지만 이번 파일에서 빠진 키는 지금부터 보관 기간 동안만 남긴다
+			Instant now = clock.instant();
+			if (previous != null) {
+				for (RingKey old : previous.keys.values()) {
+					if (!keys.containsKey(old.keyId)) {
+						keys.put(old.keyId, old.dropAt != null ? old : old.retire(now.plus(retention)));
+						if (old.dropAt == null) {
+							logger.warn("JWT 서명 키 '{}' 가 파일에서 빠졌습니다. 재시작 후에도 검증하려면 retired-at 을 적어서 남겨두세요.", old.keyId);
+						}
+					}
+				}
+			}
+
+			this.lastModified = modified;
+			return new KeyRing(active, keys).prune(now);
+		} catch (IOException e) {
+			throw new IllegalStateException("JWT 서명 키 파일을 읽을 수 없습니다: " + keyRingFile, e);
+		}
+	}
+
+	private RingKey parseKey(JsonNode node) {
+		String keyId = node.path("kid").asText();
+		SignatureAlgorithm algorithm = SignatureAlgorithm.forName(node.path("alg").asText("HS512"));
+		if (algorithm.isHmac()) {
+			Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(node.path("secret").asText()));
+			return new RingKey(keyId, algorithm, key, key, null, null);
+		}
+		if (algorithm.isEllipticCurve()) {
+			KeyPair keyPair = SigningKeyLoader.fromPem(Path.of(node.path("private-key-pem").asText()),
+					Path.of(node.path("public-key-pem").asText()), "EC");
+			Map<String, Object> jwk = EcSigningKeyStrategy.toJwk(algorithm, keyId, (ECPublicKey) keyPair.getPublic());
+			return new RingKey(keyId, algorithm, keyPair.getPrivate(), keyPair.getPublic(), jwk, null);
+		}
+		throw new IllegalStateException("지원하지 않는 알고리즘입니다: " + algorithm);
+	}
+
+	// 불변 스냅샷. 다시 읽을 때마다 통째로 교체한다
+	private static final class KeyRing {
+		private final RingKey active;
+		private final SigningKey activeKey;
+		private final Map<String, RingKey> keys;
+		private final List<Map<String, Object>> jwks;
+
+		private KeyRing(RingKey active, Map<String, RingKey> keys) {
+			this.active = active;
+			this.activeKey = new SigningKey(active.keyId, active.algorithm, active.signingKey);
+			this.keys = Collections.unmodifiableMap(keys);
+			List<Map<String, Object>> jwks = new ArrayList<>();
+			for (RingKey ringKey : keys.values()) {
+				if (ringKey.jwk != null) {
+					jwks.add(ringKey.jwk);
+				}
+			}
+			this.jwks = Collections.unmodifiableList(jwks);
+		}
+
+		private KeyRing prune(Instant now) {
+			Map<String, RingKey> alive = new HashMap<>(keys);
+			alive.values().removeIf(ringKey -> ringKey.dropAt != null && !ringKey.dropAt.isAfter(now));
+			return alive.size() == keys.size() ? this : new KeyRing(active, alive);
+		}
+	}
+
+	private static final class RingKey {
+		private final String keyId;
+		private final SignatureAlgorithm algorithm;
+		private final Key signingKey;
+		private final Key verificationKey;
+		private final Map<String, Object> jwk;
+		private final Instant dropAt;	// 검증 키에서 제거할 시각, null 이면 파일에 남아있는 키
+
+		private RingKey(String keyId, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey,
+				Map<String, Object> jwk, Instant dropAt) {
+			this.keyId = keyId;
+			this.algorithm = algorithm;
+			this.signingKey = signingKey;
+			this.verificationKey = verificationKey;
+			this.jwk = jwk;
+			this.dropAt = dropAt;
+		}
+
+		private RingKey retire(Instant dropAt) {
+			return new RingKey(keyId, algorithm, null, verificationKey, jwk, dropAt);
+		}
+	}
+}
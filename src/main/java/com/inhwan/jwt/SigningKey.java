@@ -0,0 +1,36 @@
+package com.inhwan.jwt;
+
+import java.security.Key;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/* 새 토큰 하나를 서명할 때 함께 쓰는 kid, 알고리즘, 서명 키. 키 교체 중에도 셋이 같은 스냅샷에서 나오도록 묶어서 넘긴다 */
+public final class SigningKey {
+
+	private final String keyId;
+	private final SignatureAlgorithm algorithm;
+	private final Key key;
+
+	public SigningKey(String keyId, SignatureAlgorithm algorithm, Key key) {
+		this.keyId = keyId;
+		this.algorithm = algorithm;
+		this.key = key;
+	}
+
+	public String getKeyId() {
+		return keyId;
+	}
+
+	public SignatureAlgorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	public Key getKey() {
+		return key;
+	}
+
+	// CWT(COSE_Mac0)로 서명할 수 있는 키인지
+	public boolean isHmac() {
+		return algorithm.isHmac();
+	}
+}
@@ -0,0 +1,59 @@
+package com.inhwan.jwt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/* 로컬 keystore 또는 PEM 파일에서 비대칭 서명 키 쌍을 읽어오는 유틸 클래스 */
+public final class SigningKeyLoader {
+
+	private SigningKeyLoader() {
+	}
+
+	// PKCS12/JKS keystore의 alias에서 개인키와 인증서의 공개키를 꺼낸다
+	public static KeyPair fromKeyStore(Path path, String type, String password, String alias) {
+		try (InputStream in = Files.newInputStream(path)) {
+			char[] secret = password == null ? new char[0] : password.toCharArray();
+			KeyStore keyStore = KeyStore.getInstance(type);
+			keyStore.load(in, secret);
+
+			PrivateKey privateKey = (PrivateKey) keyStore.getKey(alias, secret);
+			if (privateKey == null || keyStore.getCertificate(alias) == null) {
+				throw new IllegalStateException(path + " 에 '" + alias + "' 키가 없습니다.");
+			}
+			return new KeyPair(keyStore.getCertificate(alias).getPublicKey(), privateKey);
+		} catch (IOException | GeneralSecurityException e) {
+			throw new IllegalStateException("keystore를 읽을 수 없습니다: " + path, e);
+		}
+	}
+
+	// PKCS#8 개인키 PEM과 X.509 공개키 PEM에서 키 쌍을 만든다
+	public static KeyPair fromPem(Path privateKeyPem, Path publicKeyPem, String keyAlgorithm) {
+		try {
+			KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm);
+			PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKeyPem)));
+			PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(readPem(publicKeyPem)));
+			return new KeyPair(publicKey, privateKey);
+		} catch (IOException | GeneralSecurityException e) {
+			throw new IllegalStateException("PEM 키를 읽을 수 없습니다: " + privateKeyPem, e);
+		}
+	}
+
+	private static byte[] readPem(Path path) throws IOException {
+		String pem = Files.readString(path, StandardCharsets.US_ASCII)
+				.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+				.replaceAll("\\s", "");
+		return Base64.getDecoder().decode(pem);
+	}
+}
@@ -0,0 +1,41 @@
+package com.inhwan.jwt;
+
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/* 토큰 서명에 사용할 알고리즘과 키를 제공하는 전략 (HS512 공유 secret, ES256 키 쌍 등) */
+public interface SigningKeyStrategy {
+
+	// 토큰 헤더의 alg
+	SignatureAlgorithm getAlgorithm();
+
+	// 토큰 헤더의 kid
+	String getKeyId();
+
+	// 새 토큰을 서명할 때 사용하는 키
+	Key getSigningKey();
+
+	// 새 토큰을 서명할 kid, 알고리즘, 키를 한 번에 읽는다. 위의 getter를 따로 부르면 키 교체 중에 서로 다른 스냅샷이 섞일 수 있다
+	SigningKey getActiveKey();
+
+	// kid로 검증 키를 찾는다. kid가 없는 예전 토큰은 null이 넘어온다
+	Key getVerificationKey(String keyId);
+
+	// kid 헤더와 서명 키를 builder에 적용. 키 교체 중에도 kid와 키가 어긋나지 않도록 스냅샷 하나로 처리한다
+	default JwtBuilder signWith(JwtBuilder builder) {
+		return signWith(builder, getActiveKey());
+	}
+
+	static JwtBuilder signWith(JwtBuilder builder, SigningKey signingKey) {
+		return builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.getKeyId())
+				.signWith(signingKey.getKey(), signingKey.getAlgorithm());
+	}
+
+	// /.well-known/jwks.json 으로 공개할 공개키 목록 (대칭키 방식이면 비어있음)
+	List<Map<String, Object>> getPublicJwks();
+}
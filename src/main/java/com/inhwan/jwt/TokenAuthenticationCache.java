@@ -0,0 +1,165 @@
+package com.inhwan.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+/*
+ * 검증이 끝난 토큰의 인증 정보를 토큰 digest를 키로 캐싱 (jwt.cache.enabled 로 켜고 끈다)
+ * Authentication 객체는 setAuthenticated(false) 로 상태가 바뀔 수 있으므로 캐시에는 불변 값만 두고
+ * 요청마다 새 JwtAuthenticationToken을 만들어 준다 (한 요청이 바꾼 상태가 같은 토큰의 다른 요청에 퍼지지 않음).
+ */
+public class TokenAuthenticationCache {
+
+	// 토큰 문자열 외에 principal, 권한 목록, 캐시 엔트리 자체가 차지하는 대략적인 크기
+	private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private final Cache<String, CachedAuthentication> cache;
+
+	public TokenAuthenticationCache(@Value("${jwt.cache.enabled:false}") boolean enabled,
+			@Value("${jwt.cache.max-entries:10000}") int maxEntries,
+			@Value("${jwt.cache.max-bytes:16777216}") long maxBytes,
+			MeterRegistry meterRegistry) {
+		if (!enabled) {
+			this.cache = null;
+			return;
+		}
+
+		// 엔트리 하나의 최소 무게를 maxBytes / maxEntries 로 잡아서 메모리와 개수 제한을 동시에 지킨다
+		int minWeight = (int) Math.max(1, maxBytes / maxEntries);
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maxBytes)
+				.weigher((String key, CachedAuthentication value) -> Math.max(minWeight, value.weight))
+				.expireAfter(new TokenExpiry())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.authentication");	// hit/miss/eviction 카운터를 metrics로 노출
+	}
+
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	// 캐시에 있는 인증 정보로 새 Authentication 객체를 만들어 리턴, 없거나 만료되었으면 null
+	public JwtAuthenticationToken get(String token) {
+		if (cache == null) {
+			return null;
+		}
+
+		CachedAuthentication cached = cache.getIfPresent(digest(token));
+		// digest 충돌이나 만료 시각이 지난 엔트리는 사용하지 않는다
+		if (cached == null || !token.equals(cached.token) || cached.expiresAtMillis <= System.currentTimeMillis()) {
+			return null;
+		}
+		return new JwtAuthenticationToken(cached.username, token, cached.authorities, cached.tokenId,
+				new Date(cached.issuedAtMillis), new Date(cached.expiresAtMillis));
+	}
+
+	// 토큰의 exp 시각까지만 유지되도록 인증 정보를 캐싱 (권한 목록은 불변 리스트로 복사해 둔다)
+	public void put(String token, Authentication authentication) {
+		if (cache == null || !(authentication instanceof JwtAuthenticationToken jwtAuthentication)) {
+			return;
+		}
+		Date issuedAt = jwtAuthentication.getIssuedAt();
+		Date expiration = jwtAuthentication.getExpiration();
+		if (issuedAt == null || expiration == null) {
+			return;
+		}
+
+		int weight = token.length() + ENTRY_OVERHEAD_BYTES;
+		cache.put(digest(token), new CachedAuthentication(token, jwtAuthentication.getName(),
+				jwtAuthentication.getTokenId(), issuedAt.getTime(), List.copyOf(jwtAuthentication.getAuthorities()),
+				expiration.getTime(), weight));
+	}
+
+	// 로그아웃, 폐기된 토큰은 캐시에서 바로 제거
+	public void invalidate(String token) {
+		if (cache != null) {
+			cache.invalidate(digest(token));
+		}
+	}
+
+	// 해당 유저로 캐싱된 모든 토큰을 제거
+	public void invalidateUser(String username) {
+		if (cache != null) {
+			cache.asMap().values().removeIf(cached -> username.equals(cached.username));
+		}
+	}
+
+	public void invalidateAll() {
+		if (cache != null) {
+			cache.invalidateAll();
+		}
+	}
+
+	private static String digest(String token) {
+		byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+	}
+
+	private static final class CachedAuthentication {
+		private final String token;
+		private final String username;
+		private final String tokenId;
+		private final long issuedAtMillis;
+		private final List<GrantedAuthority> authorities;
+		private final long expiresAtMillis;
+		private final int weight;
+
+		private CachedAuthentication(String token, String username, String tokenId, long issuedAtMillis,
+				List<GrantedAuthority> authorities, long expiresAtMillis, int weight) {
+			this.token = token;
+			this.username = username;
+			this.tokenId = tokenId;
+			this.issuedAtMillis = issuedAtMillis;
+			this.authorities = authorities;
+			this.expiresAtMillis = expiresAtMillis;
+			this.weight = weight;
+		}
+	}
+
+	// 엔트리가 토큰의 exp 이후로 남아있지 않도록 만료 시간을 계산
+	private static final class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+		@Override
+		public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+			long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.inhwan.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/* claims와 토큰 문자열 사이의 변환. 토큰 앞부분(prefix)으로 어느 codec이 만든 토큰인지 구분한다 */
+public interface TokenCodec {
+
+	// 이 codec으로 읽을 수 있는 토큰인지 (prefix로만 판단하고 파싱하지 않음)
+	boolean supports(String token);
+
+	// claims를 넘겨받은 서명 키(SigningKeyStrategy.getActiveKey 스냅샷)로 서명해서 토큰 문자열을 만든다
+	String encode(Claims claims, SigningKey signingKey);
+
+	// 서명과 만료를 검증한 claims. 실패하면 jjwt 예외(SignatureException, ExpiredJwtException, MalformedJwtException 등)를 던진다
+	Claims decode(String token);
+}
@@ -0,0 +1,24 @@
+package com.inhwan.jwt;
+
+/* 새로 발급하는 토큰의 형식 (jwt.format). 검증은 형식과 관계없이 토큰 prefix로 codec을 골라서 한다 */
+public enum TokenFormat {
+
+	// JWS, 권한은 "auth" claim에 이름을 ','로 이어서 넣는다
+	JWT(false),
+
+	// JWS, 권한은 "r" claim에 bitmask로 넣는다
+	JWT_COMPACT(true),
+
+	// CWT(COSE_Mac0, CBOR) + "c1." prefix, 권한은 bitmask. HMAC 서명 키에서만 사용 가능
+	CWT(true);
+
+	private final boolean roleMask;
+
+	TokenFormat(boolean roleMask) {
+		this.roleMask = roleMask;
+	}
+
+	public boolean isRoleMask() {
+		return roleMask;
+	}
+}
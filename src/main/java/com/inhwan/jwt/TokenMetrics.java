@@ -0,0 +1,53 @@
+package com.inhwan.jwt;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.inhwan.jwt.TokenVerificationResult.FailureReason;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+/*
+ * 토큰 처리 구간별 시간과 실패 사유별 횟수
+ * 요청마다 불리는 경로라서 Timer, Counter는 처음에 모두 만들어두고 태그 조회 없이 바로 기록한다.
+ * histogram 설정은 application.yml의 management.metrics.distribution 에서 한다.
+ */
+public class TokenMetrics {
+
+	private final Timer verifyTimer;
+	private final Timer authenticationTimer;
+	private final Map<FailureReason, Counter> failures = new EnumMap<>(FailureReason.class);
+
+	public TokenMetrics(MeterRegistry meterRegistry) {
+		this.verifyTimer = Timer.builder("jwt.token.verify")
+				.description("토큰 파싱과 서명, 만료 검증에 걸린 시간")
+				.register(meterRegistry);
+		this.authenticationTimer = Timer.builder("jwt.token.authentication")
+				.description("검증된 claims에서 권한 목록과 만료 시각을 꺼내는 데 걸린 시간 (Authentication을 처음 읽을 때 한 번)")
+				.register(meterRegistry);
+		for (FailureReason reason : FailureReason.values()) {
+			failures.put(reason, Counter.builder("jwt.token.failures")
+					.description("사유별 토큰 검증 실패 횟수")
+					.tag("reason", reason.name().toLowerCase())
+					.register(meterRegistry));
+		}
+	}
+
+	public void recordVerify(long startNanos) {
+		verifyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordAuthentication(long startNanos) {
+		authenticationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void failure(FailureReason reason) {
+		failures.get(reason).increment();
+	}
+}
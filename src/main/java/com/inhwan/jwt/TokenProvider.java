@@ -1,30 +1,27 @@
 package com.inhwan.jwt;
 
-import java.security.Key;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
+import com.inhwan.util.AuthorityRegistry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 
 @Component
 /* 유저 정보로 JWT 토큰을 만들거나 토큰을 바탕으로 유저 정보를 가져옴 */
@@ -32,78 +29,187 @@ public class TokenProvider implements InitializingBean {
 
 	private final Logger logger = LoggerFactory.getLogger(TokenProvider.class);
 
-	private static final String AUTHORITIES_KEY = "auth";
+	static final String AUTHORITIES_KEY = "auth";	// 권한 이름을 ','로 이어붙인 claim
+	static final String ROLES_KEY = "r";	// 권한 bitmask claim (AuthorityRegistry의 bit 위치)
+	static final String ISSUED_AT_MILLIS_KEY = "iatms";	// ms 단위 발급 시각 (iat는 초 단위라 유저 단위 폐기 시각과 비교할 수 없음)
 
-	private final String secret;
+	private final SigningKeyStrategy signingKeyStrategy;
 	private final long tokenValidityInMilliseconds;
+	private final TokenFormat tokenFormat;
+	private final TokenAuthenticationCache tokenAuthenticationCache;
+	private final TokenRevocationList tokenRevocationList;
+	private final TokenMetrics tokenMetrics;
 
-	private Key key;
+	private TokenCodec cwtCodec;
+	private TokenCodec jwtCodec;
+	private volatile String jwtFallbackKeyId;	// CWT 대신 JWS로 발급하고 있는 active kid (같은 kid로는 경고를 한 번만 남긴다)
 
-	public TokenProvider(@Value("${jwt.secret}") String secret,
-			@Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
-		this.secret = secret;
-		this.tokenValidityInMilliseconds = tokenValidityInSeconds;
+	public TokenProvider(SigningKeyStrategy signingKeyStrategy,
+			@Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
+			@Value("${jwt.format:JWT}") TokenFormat tokenFormat,
+			TokenAuthenticationCache tokenAuthenticationCache,
+			TokenRevocationList tokenRevocationList,
+			TokenMetrics tokenMetrics) {
+		this.signingKeyStrategy = signingKeyStrategy;
+		this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+		this.tokenFormat = tokenFormat;
+		this.tokenAuthenticationCache = tokenAuthenticationCache;
+		this.tokenRevocationList = tokenRevocationList;
+		this.tokenMetrics = tokenMetrics;
 	}
 
 	@Override //상속받는 이유 : 
 	public void afterPropertiesSet() throws Exception {
-		byte[] keyBytes = Decoders.BASE64.decode(secret); // 빈이 생성이 되고 주입받은 secret값을 Base64 Decode
-		this.key = Keys.hmacShaKeyFor(keyBytes); // 해당 값을 key 변수에 할당
-
+		// parser 등은 한 번만 만들어두고, 검증할 때는 발급 형식과 관계없이 토큰 prefix로 codec을 고른다
+		this.jwtCodec = new JwtTokenCodec(signingKeyStrategy);
+		this.cwtCodec = new CwtTokenCodec(signingKeyStrategy);
+		// 시작할 때의 설정 실수는 바로 알린다. 실행 중에 키 묶음 파일이 바뀐 경우는 issuingCodec에서 JWS로 발급한다
+		SigningKey signingKey = signingKeyStrategy.getActiveKey();
+		if (tokenFormat == TokenFormat.CWT && !signingKey.isHmac()) {
+			throw new IllegalStateException("jwt.format=CWT 는 HMAC 서명 키에서만 사용할 수 있습니다: " + signingKey.getAlgorithm());
+		}
 	}
 	
 	//객체의 권한정보를 이용해서 토큰을 생성하는 메서드
 	public String createToken(Authentication authentication) {
-		String authorities = authentication.getAuthorities().stream()
-								.map(GrantedAuthority::getAuthority)
-								.collect(Collectors.joining(","));
-		
+		return createToken(authentication.getName(), authentication.getAuthorities());
+	}
+	
+	//username과 권한정보로 토큰을 생성하는 메서드 (refresh token으로 재발급할 때 사용)
+	public String createToken(String username, Collection<? extends GrantedAuthority> grantedAuthorities) {
 		long now = (new Date()).getTime();
 		Date validity = new Date(now + this.tokenValidityInMilliseconds);	//application에서 설정한 만료시간
 		
-		return Jwts.builder()	//jwt 토큰을 리턴한다
-				.setSubject(authentication.getName())
-				.claim(AUTHORITIES_KEY, authorities)
-				.signWith(key, SignatureAlgorithm.HS512)
-				.setExpiration(validity)	//설정한 시간을 만료시간으로 설정하고 토큰을 생성
-				.compact();
+		Claims claims = Jwts.claims()
+				.setId(UUID.randomUUID().toString())	// 토큰 단위로 폐기할 수 있도록 jti를 넣는다
+				.setIssuedAt(new Date(now))
+				.setSubject(username);
+		claims.put(ISSUED_AT_MILLIS_KEY, now);	// 유저 단위 폐기 시각(ms)과 비교할 발급 시각
+		
+		// compact 형식이면 권한을 bitmask로 넣고, bit가 없는 권한이 섞여 있으면 이름으로 넣는다
+		long roleMask = tokenFormat.isRoleMask() ? AuthorityRegistry.mask(grantedAuthorities) : -1;
+		if (roleMask >= 0) {
+			claims.put(ROLES_KEY, roleMask);
+		} else {
+			claims.put(AUTHORITIES_KEY, grantedAuthorities.stream()
+					.map(GrantedAuthority::getAuthority)
+					.collect(Collectors.joining(",")));
+		}
+		claims.setExpiration(validity);	//설정한 시간을 만료시간으로 설정하고
+		SigningKey signingKey = signingKeyStrategy.getActiveKey();	// kid, 알고리즘, 키를 한 번에 읽는다
+		return issuingCodec(signingKey).encode(claims, signingKey);	// 현재 서명 키로 토큰을 생성
+	}
+
+	// 새 토큰을 만들 때 사용하는 codec (jwt.format). CWT인데 active 키가 HMAC이 아니면 로그인이 실패하지 않도록 JWS로 발급한다
+	private TokenCodec issuingCodec(SigningKey signingKey) {
+		if (tokenFormat != TokenFormat.CWT) {
+			return jwtCodec;
+		}
+		if (signingKey.isHmac()) {
+			return cwtCodec;
+		}
+		if (!Objects.equals(signingKey.getKeyId(), jwtFallbackKeyId)) {
+			jwtFallbackKeyId = signingKey.getKeyId();
+			logger.warn("active 서명 키({}, {})가 HMAC이 아니라서 jwt.format=CWT 대신 JWS로 발급합니다.",
+					signingKey.getKeyId(), signingKey.getAlgorithm());
+		}
+		return jwtCodec;
 	}
 	
 	//토큰에 담겨있는 정보를 이용해 Authentication 객체를 리턴하는 메서드
 	public Authentication getAuthentication(String token) {
-		Claims claims = Jwts	// 토큰을 받아 claims를 만들어준다.
-				.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
-		
-		Collection<? extends GrantedAuthority> authorities =
-				Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))	//claims에서 권한 정보를 빼낸다.
-						.map(SimpleGrantedAuthority::new)
-						.collect(Collectors.toList());
-		
-		User principal = new User(claims.getSubject(), "", authorities);	// 권한 정보를 빼서 User 객체를 만들어준다
-		
-		return new UsernamePasswordAuthenticationToken(principal, token, authorities); 
-		// User 객체와 토큰, 권한 정보를 이용해 Authentication 객체를 리턴
+		return getAuthentication(codecFor(token).decode(token), token);	// 토큰을 받아 claims를 만들어준다.
+	}
+
+	//이미 검증된 claims를 이용해 Authentication 객체를 리턴하는 메서드 (다시 파싱하지 않음)
+	public Authentication getAuthentication(Claims claims, String token) {
+		// 권한 목록과 만료 시각은 Authentication에서 처음 읽을 때 claims에서 꺼낸다
+		return new JwtAuthenticationToken(claims.getSubject(), token, claims.getId(), issuedAt(claims), claims, tokenMetrics);
+	}
+
+	// ms 단위 발급 시각, iatms claim이 없는 예전 토큰은 초 단위 iat
+	static Date issuedAt(Claims claims) {
+		Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_KEY, Long.class);
+		return issuedAtMillis != null ? new Date(issuedAtMillis) : claims.getIssuedAt();
+	}
+
+	// claims에서 권한 정보를 빼낸다. 같은 claim 값이면 항상 미리 만들어둔 같은 리스트를 돌려받는다.
+	static List<GrantedAuthority> resolveAuthorities(Claims claims) {
+		Long roleMask = claims.get(ROLES_KEY, Long.class);
+		return roleMask != null
+				? AuthorityRegistry.resolveMask(roleMask)
+				: AuthorityRegistry.resolve(claims.get(AUTHORITIES_KEY, String.class));
 	}
 	
-	//토큰을 파라미터로 받아 토큰의 유효성 검사를 진행하는 메서드
-	public boolean validateToken(String token) {
+	//토큰을 한 번만 파싱해서 서명과 만료를 검증하고, 검증된 claims 또는 실패 사유를 리턴하는 메서드
+	public TokenVerificationResult verifyToken(String token) {
+		long start = System.nanoTime();
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token); //파라미터로 받은 토큰을 파싱
-			return true;
+			return TokenVerificationResult.valid(codecFor(token).decode(token));
 			//익셉션들 캐칭
 		} catch(io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-			logger.info("잘못된 JWT 서명입니다.");
+			return failure(TokenVerificationResult.FailureReason.INVALID_SIGNATURE);
 		} catch(ExpiredJwtException e) {
-			logger.info("만료된 JWT 토큰입니다.");
+			return failure(TokenVerificationResult.FailureReason.EXPIRED);
 		} catch(UnsupportedJwtException e) {
-			logger.info("지원되지 않는 JWT 토큰입니다.");
+			return failure(TokenVerificationResult.FailureReason.UNSUPPORTED);
 		} catch(IllegalArgumentException e) {
-			logger.info("JWT 토큰이 잘못되었습니다.");
+			return failure(TokenVerificationResult.FailureReason.ILLEGAL_ARGUMENT);
+		} finally {
+			tokenMetrics.recordVerify(start);
+		}
+	}
+	
+	//검증과 Authentication 생성을 한 번의 파싱으로 처리하는 메서드 (JwtFilter에서 사용)
+	public TokenVerificationResult authenticate(String token) {
+		// 이미 검증했던 토큰이면 서명 검증을 생략 (요청마다 새 Authentication 객체를 받는다)
+		JwtAuthenticationToken cached = tokenAuthenticationCache.get(token);
+		if (cached != null) {
+			if (tokenRevocationList.isRevoked(cached.getTokenId(), cached.getName(), cached.getIssuedAt())) {
+				tokenAuthenticationCache.invalidate(token);	// 폐기된 토큰은 캐시에서 바로 제거
+				return failure(TokenVerificationResult.FailureReason.REVOKED);
+			}
+			return TokenVerificationResult.cached(cached);
 		}
-		return false;
+
+		TokenVerificationResult result = verifyToken(token);
+		if (!result.isValid()) {
+			return result;
+		}
+
+		Claims claims = result.getClaims();
+		String tokenId = claims.getId();
+		String username = claims.getSubject();
+		Date issuedAt = issuedAt(claims);
+		if (tokenRevocationList.isRevoked(tokenId, username, issuedAt)) {	// 폐기 목록은 메모리에서만 확인
+			return failure(TokenVerificationResult.FailureReason.REVOKED);
+		}
+
+		// 폐기 확인에 쓴 값만 넘기고, 권한 목록은 Spring Security가 읽을 때 만든다 (그때 걸린 시간을 jwt.token.authentication 으로 기록)
+		Authentication authentication = new JwtAuthenticationToken(username, token, tokenId, issuedAt, claims, tokenMetrics);
+		if (tokenAuthenticationCache.isEnabled()) {
+			tokenAuthenticationCache.put(token, authentication);
+		}
+		return result.withAuthentication(authentication);
+	}
+	
+	//토큰을 파라미터로 받아 토큰의 유효성 검사를 진행하는 메서드
+	public boolean validateToken(String token) {
+		TokenVerificationResult result = verifyToken(token);
+		if (!result.isValid()) {
+			logger.debug(result.getFailureReason().getMessage());	// 실패 횟수는 jwt.token.failures 로 집계
+		}
+		return result.isValid();
+	}
+
+	// 토큰 prefix로 codec을 고른다 ("c1." 이면 CWT, 아니면 JWS)
+	private TokenCodec codecFor(String token) {
+		return cwtCodec.supports(token) ? cwtCodec : jwtCodec;
+	}
+
+	// 실패 사유별 횟수를 metrics로 남긴다 (잘못된 토큰마다 info 로그를 남기지 않음)
+	private TokenVerificationResult failure(TokenVerificationResult.FailureReason reason) {
+		tokenMetrics.failure(reason);
+		return TokenVerificationResult.invalid(reason);
 	}
 }
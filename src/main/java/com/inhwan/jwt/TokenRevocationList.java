@@ -0,0 +1,128 @@
+package com.inhwan.jwt;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.inhwan.util.BloomFilter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+/*
+ * 폐기된 토큰(jti)과 유저 단위 폐기 시각을 메모리에 들고 있는 목록
+ * 매 요청마다 DB를 조회하지 않도록 Bloom filter로 먼저 거르고, 걸린 경우에만 정확한 Set을 확인한다.
+ * DB 저장과 다른 노드의 폐기 반영은 TokenRevocationService가 담당한다.
+ */
+public class TokenRevocationList {
+
+	// jti 문자열과 ConcurrentHashMap 노드를 합친 대략적인 엔트리 크기
+	private static final int ENTRY_BYTES = 128;
+
+	private final int expectedEntries;
+	private final double falsePositiveRate;
+
+	private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();	// jti -> 토큰 만료 시각
+	private final Map<String, UserRevocation> revokedUsers = new ConcurrentHashMap<>();	// username -> 유저 단위 폐기 시각과 정리할 시각
+	private volatile BloomFilter bloomFilter;
+	private int capacity;	// 현재 Bloom filter가 오탐률을 지킬 수 있는 개수
+
+	private final Timer lookupTimer;
+
+	public TokenRevocationList(@Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+			@Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+			MeterRegistry meterRegistry) {
+		this.expectedEntries = expectedEntries;
+		this.falsePositiveRate = falsePositiveRate;
+		this.bloomFilter = new BloomFilter(expectedEntries, falsePositiveRate);
+		this.capacity = expectedEntries;
+
+		this.lookupTimer = Timer.builder("jwt.revocation.lookup")
+				.description("요청마다 폐기 목록을 확인하는 데 걸린 시간")
+				.register(meterRegistry);
+		Gauge.builder("jwt.revocation.entries", this, list -> list.revokedTokens.size() + list.revokedUsers.size())
+				.register(meterRegistry);
+		Gauge.builder("jwt.revocation.memory", this, TokenRevocationList::estimatedSizeInBytes)
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+
+	// 토큰 하나가 폐기되었는지 확인 (jti 또는 유저 단위 폐기), issuedAt은 ms 단위 발급 시각 (TokenProvider.issuedAt)
+	public boolean isRevoked(String tokenId, String username, Date issuedAt) {
+		long start = System.nanoTime();
+		try {
+			if (tokenId != null && bloomFilter.mightContain(tokenId) && revokedTokens.containsKey(tokenId)) {
+				return true;
+			}
+			if (revokedUsers.isEmpty()) {
+				return false;
+			}
+			UserRevocation revocation = revokedUsers.get(username);
+			// iat가 없는 토큰은 폐기 시각 이전에 발급된 것으로 본다
+			// iatms가 없는 예전 토큰은 초 단위로 내림된 iat라서 같은 초에 폐기 이후 발급된 토큰도 폐기된 것으로 본다 (안전한 쪽)
+			return revocation != null && (issuedAt == null || issuedAt.getTime() <= revocation.revokedAtMillis);
+		} finally {
+			lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	public synchronized void revokeToken(String tokenId, long expiresAtMillis) {
+		if (revokedTokens.put(tokenId, expiresAtMillis) == null) {
+			bloomFilter.put(tokenId);
+			if (revokedTokens.size() > capacity) {
+				rebuild();	// 예상 개수를 넘으면 오탐률이 올라가므로 더 크게 다시 만든다
+			}
+		}
+	}
+
+	// 폐기 시각과 정리 시각을 한 엔트리로 합쳐서 바꾸므로 prune과 동시에 실행되어도 둘 중 하나만 남지 않는다
+	public void revokeUser(String username, long revokedAtMillis, long expiresAtMillis) {
+		revokedUsers.merge(username, new UserRevocation(revokedAtMillis, expiresAtMillis), UserRevocation::merge);
+	}
+
+	// 만료된 토큰의 폐기 기록은 더 이상 필요 없으므로 제거하고 Bloom filter를 다시 만든다
+	public synchronized void prune(long nowMillis) {
+		boolean removed = revokedTokens.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+		for (Map.Entry<String, UserRevocation> entry : revokedUsers.entrySet()) {
+			if (entry.getValue().expiresAtMillis <= nowMillis) {
+				revokedUsers.remove(entry.getKey(), entry.getValue());	// 그 사이에 새로 폐기된 유저는 값이 바뀌어 있으므로 지우지 않는다
+			}
+		}
+		if (removed) {
+			rebuild();
+		}
+	}
+
+	public long estimatedSizeInBytes() {
+		return bloomFilter.sizeInBytes() + (long) (revokedTokens.size() + revokedUsers.size()) * ENTRY_BYTES;
+	}
+
+	private void rebuild() {
+		capacity = Math.max(expectedEntries, revokedTokens.size() * 2);
+		BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+		revokedTokens.keySet().forEach(rebuilt::put);
+		this.bloomFilter = rebuilt;
+	}
+
+	// 불변 값. 같은 유저가 다시 폐기되면 두 값 모두 더 늦은 쪽으로 새 객체를 만든다
+	private static final class UserRevocation {
+		private final long revokedAtMillis;	// 이 시각 이전에 발급된 토큰은 폐기
+		private final long expiresAtMillis;	// 유저 단위 폐기를 정리할 시각
+
+		private UserRevocation(long revokedAtMillis, long expiresAtMillis) {
+			this.revokedAtMillis = revokedAtMillis;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+
+		private UserRevocation merge(UserRevocation other) {
+			return new UserRevocation(Math.max(revokedAtMillis, other.revokedAtMillis),
+					Math.max(expiresAtMillis, other.expiresAtMillis));
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.inhwan.jwt;
+
+import org.springframework.security.core.Authentication;
+
+import io.jsonwebtoken.Claims;
+
+/* 토큰을 한 번만 파싱해서 얻은 검증 결과 (검증된 claims 또는 실패 사유) */
+public final class TokenVerificationResult {
+
+	// 토큰 검증 실패 사유
+	public enum FailureReason {
+		INVALID_SIGNATURE("잘못된 JWT 서명입니다."),
+		EXPIRED("만료된 JWT 토큰입니다."),
+		UNSUPPORTED("지원되지 않는 JWT 토큰입니다."),
+		ILLEGAL_ARGUMENT("JWT 토큰이 잘못되었습니다."),
+		REVOKED("폐기된 JWT 토큰입니다.");
+
+		private final String message;
+
+		FailureReason(String message) {
+			this.message = message;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+	}
+
+	private final Claims claims;
+	private final Authentication authentication;
+	private final FailureReason failureReason;
+
+	private TokenVerificationResult(Claims claims, Authentication authentication, FailureReason failureReason) {
+		this.claims = claims;
+		this.authentication = authentication;
+		this.failureReason = failureReason;
+	}
+
+	public static TokenVerificationResult valid(Claims claims) {
+		return new TokenVerificationResult(claims, null, null);
+	}
+
+	public static TokenVerificationResult invalid(FailureReason failureReason) {
+		return new TokenVerificationResult(null, null, failureReason);
+	}
+
+	// 캐시에서 꺼낸 Authentication 객체 (claims는 다시 파싱하지 않으므로 없음)
+	public static TokenVerificationResult cached(Authentication authentication) {
+		return new TokenVerificationResult(null, authentication, null);
+	}
+
+	// 검증된 claims로 만든 Authentication 객체를 함께 담은 결과를 리턴
+	public TokenVerificationResult withAuthentication(Authentication authentication) {
+		return new TokenVerificationResult(claims, authentication, failureReason);
+	}
+
+	public boolean isValid() {
+		return failureReason == null;
+	}
+
+	public Claims getClaims() {
+		return claims;
+	}
+
+	public Authentication getAuthentication() {
+		return authentication;
+	}
+
+	public FailureReason getFailureReason() {
+		return failureReason;
+	}
+}
@@ -0,0 +1,90 @@
+package com.inhwan.ratelimit;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/* 필터에서 본문을 먼저 읽은 뒤에도 컨트롤러가 같은 본문을 다시 읽을 수 있도록 메모리에 들고 있는 요청 */
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+	private final byte[] body;
+
+	private CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+		super(request);
+		this.body = body;
+	}
+
+	// 본문이 maxBytes 보다 크면 null (로그인 요청은 작으므로 큰 본문은 읽지 않고 거절)
+	public static CachedBodyHttpServletRequest of(HttpServletRequest request, int maxBytes) throws IOException {
+		if (request.getContentLengthLong() > maxBytes) {
+			return null;
+		}
+		try (InputStream inputStream = request.getInputStream()) {
+			byte[] body = inputStream.readNBytes(maxBytes + 1);
+			if (body.length > maxBytes) {
+				return null;
+			}
+			return new CachedBodyHttpServletRequest(request, body);
+		}
+	}
+
+	public byte[] getBody() {
+		return body;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+		return new ServletInputStream() {
+			@Override
+			public int read() {
+				return inputStream.read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				return inputStream.read(b, off, len);
+			}
+
+			@Override
+			public boolean isFinished() {
+				return inputStream.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			// 본문은 이미 메모리에 다 있으므로 비동기로 읽는 쪽에는 바로 읽을 수 있다고 알리고 끝을 알린다
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				if (readListener == null) {
+					throw new NullPointerException("readListener");
+				}
+				try {
+					readListener.onDataAvailable();
+					readListener.onAllDataRead();
+				} catch (IOException e) {
+					readListener.onError(e);
+				}
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		String encoding = getCharacterEncoding();
+		Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+		return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+}
@@ -0,0 +1,58 @@
+package com.inhwan.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+/*
+ * 노드 메모리에 두는 토큰 버킷 저장소
+ * 버킷은 GCRA(Generic Cell Rate Algorithm)로 다음 토큰이 허용되는 시각(TAT) 하나만 AtomicLong에 들고 있어서 lock 없이 CAS로 갱신한다.
+ * key 수는 max-entries로 제한하고, 한동안 요청이 없는 버킷은 어차피 가득 찬 상태이므로 idle 시간이 지나면 제거한다.
+ */
+public class CaffeineRateLimitStore implements RateLimitStore {
+
+	private final Cache<String, AtomicLong> buckets;
+
+	public CaffeineRateLimitStore(@Value("${rate-limit.max-entries:100000}") long maxEntries,
+			@Value("${rate-limit.idle-seconds:900}") long idleSeconds,
+			MeterRegistry meterRegistry) {
+		this.buckets = Caffeine.newBuilder()
+				.maximumSize(maxEntries)
+				.expireAfterAccess(Duration.ofSeconds(idleSeconds))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate-limit.buckets");
+	}
+
+	@Override
+	public long tryConsume(String key, RateLimit limit, long nowNanos) {
+		AtomicLong theoreticalArrival = buckets.get(limit.getName() + ':' + key, k -> new AtomicLong(nowNanos));
+		long interval = limit.getEmissionIntervalNanos();
+		long tolerance = limit.getBurstToleranceNanos();
+		while (true) {
+			long current = theoreticalArrival.get();
+			long next = Math.max(current, nowNanos) + interval;
+			long wait = next - nowNanos - tolerance;
+			if (wait > 0) {
+				return wait;	// 버킷이 비어 있음. 상태는 바꾸지 않는다
+			}
+			if (theoreticalArrival.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+
+	@Override
+	public long size() {
+		return buckets.estimatedSize();
+	}
+}
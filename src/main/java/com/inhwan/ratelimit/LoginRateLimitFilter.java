@@ -0,0 +1,92 @@
+package com.inhwan.ratelimit;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inhwan.dto.ErrorDto;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+ * POST /api/authenticate 요청을 IP별, username별 토큰 버킷으로 제한하는 필터
+ * JwtFilter보다 앞에서 실행되어 한도를 넘은 요청은 DB 조회와 BCrypt 없이 바로 429로 거절한다.
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+	private static final String LOGIN_PATH = "/api/authenticate";
+	private static final int MAX_BODY_BYTES = 4096;
+
+	private final LoginRateLimiter loginRateLimiter;
+	private final ObjectMapper objectMapper;
+
+	public LoginRateLimitFilter(LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper) {
+		this.loginRateLimiter = loginRateLimiter;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !loginRateLimiter.isEnabled()
+				|| !"POST".equals(request.getMethod())
+				|| !LOGIN_PATH.equals(request.getServletPath());
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		// IP 한도는 본문을 읽기 전에 먼저 확인
+		long wait = loginRateLimiter.acquireForIp(request.getRemoteAddr());
+		if (wait > 0) {
+			reject(response, wait);
+			return;
+		}
+
+		CachedBodyHttpServletRequest cachedRequest = CachedBodyHttpServletRequest.of(request, MAX_BODY_BYTES);
+		if (cachedRequest == null) {
+			writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "로그인 요청 본문이 너무 큽니다.");
+			return;
+		}
+
+		String username = username(cachedRequest.getBody());
+		if (username != null) {
+			wait = loginRateLimiter.acquireForUsername(username);
+			if (wait > 0) {
+				reject(response, wait);
+				return;
+			}
+		}
+
+		filterChain.doFilter(cachedRequest, response);
+	}
+
+	// 본문이 JSON이 아니면 username 한도는 건너뛰고 컨트롤러의 @Valid 검증에 맡긴다
+	private String username(byte[] body) {
+		try {
+			JsonNode username = objectMapper.readTree(body).path("username");
+			return username.isTextual() ? username.asText() : null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(LoginRateLimiter.retryAfterSeconds(waitNanos)));
+		writeError(response, HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+	}
+
+	private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+		response.setStatus(status.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		objectMapper.writeValue(response.getOutputStream(), new ErrorDto(status.value(), message));
+	}
+}
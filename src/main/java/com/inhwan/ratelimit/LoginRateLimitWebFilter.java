@@ -0,0 +1,137 @@
+package com.inhwan.ratelimit;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inhwan.dto.ErrorDto;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+ * LoginRateLimitFilter의 WebFlux 버전 (reactive 프로필)
+ * 같은 LoginRateLimiter를 사용해서 한도를 넘은 POST /api/authenticate 요청은 유저 조회와 BCrypt 없이 바로 429로 거절한다.
+ */
+public class LoginRateLimitWebFilter implements WebFilter {
+
+	private static final String LOGIN_PATH = "/api/authenticate";
+	private static final int MAX_BODY_BYTES = 4096;
+
+	private final LoginRateLimiter loginRateLimiter;
+	private final ObjectMapper objectMapper;
+
+	public LoginRateLimitWebFilter(LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper) {
+		this.loginRateLimiter = loginRateLimiter;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest request = exchange.getRequest();
+		if (!loginRateLimiter.isEnabled()
+				|| !HttpMethod.POST.equals(request.getMethod())
+				|| !LOGIN_PATH.equals(request.getPath().pathWithinApplication().value())) {
+			return chain.filter(exchange);
+		}
+
+		// IP 한도는 본문을 읽기 전에 먼저 확인
+		long wait = loginRateLimiter.acquireForIp(remoteAddress(request));
+		if (wait > 0) {
+			return reject(exchange.getResponse(), wait);
+		}
+		if (request.getHeaders().getContentLength() > MAX_BODY_BYTES) {
+			return writeError(exchange.getResponse(), HttpStatus.PAYLOAD_TOO_LARGE, "로그인 요청 본문이 너무 큽니다.");
+		}
+
+		// 본문을 최대 MAX_BODY_BYTES 까지만 모아서 username을 꺼내고, 컨트롤러에는 모아둔 본문을 다시 넘긴다
+		return DataBufferUtils.join(request.getBody(), MAX_BODY_BYTES)
+				.map(LoginRateLimitWebFilter::bytes)
+				.defaultIfEmpty(new byte[0])
+				.map(Optional::of)
+				.onErrorReturn(DataBufferLimitException.class, Optional.empty())
+				.flatMap(body -> body.isPresent()
+						? filterWithBody(exchange, chain, body.get())
+						: writeError(exchange.getResponse(), HttpStatus.PAYLOAD_TOO_LARGE, "로그인 요청 본문이 너무 큽니다."));
+	}
+
+	private Mono<Void> filterWithBody(ServerWebExchange exchange, WebFilterChain chain, byte[] body) {
+		String username = username(body);
+		if (username != null) {
+			long wait = loginRateLimiter.acquireForUsername(username);
+			if (wait > 0) {
+				return reject(exchange.getResponse(), wait);
+			}
+		}
+
+		ServerHttpRequest cachedRequest = new ServerHttpRequestDecorator(exchange.getRequest()) {
+			@Override
+			public Flux<DataBuffer> getBody() {
+				return Flux.defer(() -> Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+			}
+		};
+		return chain.filter(exchange.mutate().request(cachedRequest).build());
+	}
+
+	// 본문이 JSON이 아니면 username 한도는 건너뛰고 컨트롤러의 @Valid 검증에 맡긴다
+	private String username(byte[] body) {
+		try {
+			JsonNode username = objectMapper.readTree(body).path("username");
+			return username.isTextual() ? username.asText() : null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private Mono<Void> reject(ServerHttpResponse response, long waitNanos) {
+		response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(LoginRateLimiter.retryAfterSeconds(waitNanos)));
+		return writeError(response, HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+	}
+
+	private Mono<Void> writeError(ServerHttpResponse response, HttpStatus status, String message) {
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(new ErrorDto(status.value(), message));
+		} catch (JsonProcessingException e) {
+			return Mono.error(e);
+		}
+		response.setStatusCode(status);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(json)));
+	}
+
+	private static byte[] bytes(DataBuffer buffer) {
+		try {
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			return bytes;
+		} finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	private static String remoteAddress(ServerHttpRequest request) {
+		InetSocketAddress address = request.getRemoteAddress();
+		if (address == null) {
+			return "unknown";
+		}
+		return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+	}
+}
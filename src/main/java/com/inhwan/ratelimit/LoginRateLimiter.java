@@ -0,0 +1,72 @@
+package com.inhwan.ratelimit;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+/* 로그인 시도에 대한 IP별, username별 한도. 거절된 횟수는 login.rate-limit.rejected 로 노출 */
+public class LoginRateLimiter {
+
+	private final RateLimitStore store;
+	private final boolean enabled;
+	private final RateLimit ipLimit;
+	private final RateLimit usernameLimit;
+	private final Counter ipRejected;
+	private final Counter usernameRejected;
+
+	public LoginRateLimiter(RateLimitStore store,
+			@Value("${rate-limit.login.enabled:true}") boolean enabled,
+			@Value("${rate-limit.login.ip.capacity:20}") long ipCapacity,
+			@Value("${rate-limit.login.ip.period-seconds:60}") long ipPeriodSeconds,
+			@Value("${rate-limit.login.username.capacity:5}") long usernameCapacity,
+			@Value("${rate-limit.login.username.period-seconds:60}") long usernamePeriodSeconds,
+			MeterRegistry meterRegistry) {
+		this.store = store;
+		this.enabled = enabled;
+		this.ipLimit = new RateLimit("login-ip", ipCapacity, Duration.ofSeconds(ipPeriodSeconds));
+		this.usernameLimit = new RateLimit("login-username", usernameCapacity, Duration.ofSeconds(usernamePeriodSeconds));
+		this.ipRejected = Counter.builder("login.rate-limit.rejected")
+				.description("한도를 넘어 거절된 로그인 시도")
+				.tag("limit", "ip")
+				.register(meterRegistry);
+		this.usernameRejected = Counter.builder("login.rate-limit.rejected")
+				.description("한도를 넘어 거절된 로그인 시도")
+				.tag("limit", "username")
+				.register(meterRegistry);
+		meterRegistry.gauge("login.rate-limit.buckets", store, RateLimitStore::size);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(nanos)
+	public long acquireForIp(String ip) {
+		long wait = store.tryConsume(ip, ipLimit, System.nanoTime());
+		if (wait > 0) {
+			ipRejected.increment();
+		}
+		return wait;
+	}
+
+	// 대소문자만 바꿔서 한도를 피하지 못하도록 소문자로 맞춘다
+	public long acquireForUsername(String username) {
+		long wait = store.tryConsume(username.toLowerCase(Locale.ROOT), usernameLimit, System.nanoTime());
+		if (wait > 0) {
+			usernameRejected.increment();
+		}
+		return wait;
+	}
+
+	// Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+	public static long retryAfterSeconds(long waitNanos) {
+		return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+	}
+}
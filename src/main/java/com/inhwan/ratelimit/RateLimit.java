@@ -0,0 +1,44 @@
+package com.inhwan.ratelimit;
+
+import java.time.Duration;
+
+/* 버킷 하나의 한도. period 동안 capacity 번까지 허용하고, 토큰은 period / capacity 간격으로 하나씩 찬다 */
+public final class RateLimit {
+
+	private final String name;
+	private final long capacity;
+	private final Duration period;
+	private final long emissionIntervalNanos;
+
+	public RateLimit(String name, long capacity, Duration period) {
+		if (capacity <= 0 || period.isNegative() || period.isZero()) {
+			throw new IllegalArgumentException("capacity와 period는 0보다 커야 합니다: " + name);
+		}
+		this.name = name;
+		this.capacity = capacity;
+		this.period = period;
+		this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getCapacity() {
+		return capacity;
+	}
+
+	public Duration getPeriod() {
+		return period;
+	}
+
+	// 토큰 하나가 다시 차는 데 걸리는 시간
+	public long getEmissionIntervalNanos() {
+		return emissionIntervalNanos;
+	}
+
+	// 한 번에 몰아서 쓸 수 있는 최대 시간 (가득 찬 버킷)
+	public long getBurstToleranceNanos() {
+		return emissionIntervalNanos * capacity;
+	}
+}
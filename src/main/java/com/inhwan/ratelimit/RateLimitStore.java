@@ -0,0 +1,14 @@
+package com.inhwan.ratelimit;
+
+/*
+ * key별 토큰 버킷 저장소
+ * 지금은 노드 메모리(CaffeineRateLimitStore)에만 두지만, 여러 노드가 한도를 공유해야 하면 같은 계약으로 공유 저장소 구현을 만들어 교체한다.
+ */
+public interface RateLimitStore {
+
+	// key의 버킷에서 토큰 하나를 꺼낸다. 성공하면 0, 토큰이 없으면 다시 시도할 수 있을 때까지 남은 시간(nanos)
+	long tryConsume(String key, RateLimit limit, long nowNanos);
+
+	// 현재 들고 있는 버킷 수 (metrics 용)
+	long size();
+}
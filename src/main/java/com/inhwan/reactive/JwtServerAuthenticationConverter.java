@@ -0,0 +1,42 @@
+package com.inhwan.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.inhwan.jwt.TokenProvider;
+import com.inhwan.jwt.TokenVerificationResult;
+
+import reactor.core.publisher.Mono;
+
+/* JwtFilter의 reactive 버전. Authorization 헤더의 토큰을 TokenProvider로 검증해서 Authentication 객체로 바꾼다 */
+public class JwtServerAuthenticationConverter implements ServerAuthenticationConverter {
+
+	private static final Logger logger = LoggerFactory.getLogger(JwtServerAuthenticationConverter.class);
+
+	private final TokenProvider tokenProvider;
+
+	public JwtServerAuthenticationConverter(TokenProvider tokenProvider) {
+		this.tokenProvider = tokenProvider;
+	}
+
+	@Override
+	public Mono<Authentication> convert(ServerWebExchange exchange) {
+		String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
+			return Mono.empty();
+		}
+
+		// 서명 검증은 CPU 작업이고 폐기 목록, 캐시도 메모리에서만 확인하므로 이벤트 루프에서 바로 수행
+		TokenVerificationResult result = tokenProvider.authenticate(bearerToken.substring(7));
+		if (!result.isValid()) {
+			logger.debug("{} uri: {}", result.getFailureReason().getMessage(), exchange.getRequest().getPath());
+			return Mono.empty();
+		}
+		return Mono.just(result.getAuthentication());
+	}
+}
@@ -0,0 +1,63 @@
+package com.inhwan.reactive;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inhwan.dto.LoginDto;
+import com.inhwan.dto.RefreshTokenDto;
+import com.inhwan.dto.TokenDto;
+import com.inhwan.jwt.JwtFilter;
+import com.inhwan.service.RefreshTokenService;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/* AuthController의 reactive 버전 */
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveAuthController {
+    private final ReactiveAuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final Scheduler jpaScheduler;
+
+    public ReactiveAuthController(ReactiveAuthenticationManager authenticationManager,
+                                  RefreshTokenService refreshTokenService,
+                                  @Qualifier(ReactiveSchedulersConfig.JPA_SCHEDULER) Scheduler jpaScheduler) {
+        this.authenticationManager = authenticationManager;
+        this.refreshTokenService = refreshTokenService;
+        this.jpaScheduler = jpaScheduler;
+    }
+
+    @PostMapping("/authenticate")
+    public Mono<ResponseEntity<TokenDto>> authorize(@Valid @RequestBody LoginDto loginDto) {
+        // 유저 조회와 BCrypt 검증은 인증 매니저가 각각의 scheduler에서 수행
+        return authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword()))
+                .flatMap(authentication -> Mono.fromCallable(() -> refreshTokenService.issue(authentication))
+                        .subscribeOn(jpaScheduler))
+                .map(this::tokenResponse);
+    }
+
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<TokenDto>> refresh(@Valid @RequestBody RefreshTokenDto refreshTokenDto) {
+        return Mono.fromCallable(() -> refreshTokenService.rotate(refreshTokenDto.getRefreshToken()))
+                .subscribeOn(jpaScheduler)
+                .map(this::tokenResponse);
+    }
+
+    private ResponseEntity<TokenDto> tokenResponse(TokenDto tokenDto) {
+        return ResponseEntity.ok()
+                .header(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + tokenDto.getToken())
+                .body(tokenDto);
+    }
+}
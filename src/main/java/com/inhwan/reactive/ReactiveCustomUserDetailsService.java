@@ -0,0 +1,41 @@
+package com.inhwan.reactive;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.inhwan.service.CustomUserDetailsService;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/* CustomUserDetailsService의 reactive 버전. JPA 조회는 jpaScheduler에서 수행한다 */
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveCustomUserDetailsService implements ReactiveUserDetailsService, ReactiveUserDetailsPasswordService {
+
+	private final CustomUserDetailsService customUserDetailsService;
+	private final Scheduler jpaScheduler;
+
+	public ReactiveCustomUserDetailsService(CustomUserDetailsService customUserDetailsService,
+			@Qualifier(ReactiveSchedulersConfig.JPA_SCHEDULER) Scheduler jpaScheduler) {
+		this.customUserDetailsService = customUserDetailsService;
+		this.jpaScheduler = jpaScheduler;
+	}
+
+	@Override
+	public Mono<UserDetails> findByUsername(String username) {
+		return Mono.fromCallable(() -> customUserDetailsService.loadUserByUsername(username))
+				.subscribeOn(jpaScheduler);
+	}
+
+	@Override
+	public Mono<UserDetails> updatePassword(UserDetails user, String newPassword) {
+		return Mono.fromCallable(() -> customUserDetailsService.updatePassword(user, newPassword))
+				.subscribeOn(jpaScheduler);
+	}
+}
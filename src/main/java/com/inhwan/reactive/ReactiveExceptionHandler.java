@@ -0,0 +1,61 @@
+package com.inhwan.reactive;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import com.inhwan.dto.ErrorDto;
+import com.inhwan.exception.DuplicateMemberException;
+import com.inhwan.exception.InvalidRefreshTokenException;
+import com.inhwan.exception.NotFoundMemberException;
+import com.inhwan.exception.PasswordHashingRejectedException;
+
+/* RestResponseExceptionHandler, MethodArgumentNotValidExceptionHandler의 reactive 버전 */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ErrorDto badRequest(WebExchangeBindException ex) {
+        ErrorDto errorDTO = new ErrorDto(BAD_REQUEST.value(), "@Valid Error");
+        ex.getFieldErrors().forEach(fieldError ->
+                errorDTO.addFieldError(fieldError.getObjectName(), fieldError.getField(), fieldError.getDefaultMessage()));
+        return errorDTO;
+    }
+
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(DuplicateMemberException.class)
+    public ErrorDto conflict(RuntimeException ex) {
+        return new ErrorDto(CONFLICT.value(), ex.getMessage());
+    }
+
+    @ResponseStatus(FORBIDDEN)
+    @ExceptionHandler({ NotFoundMemberException.class, AccessDeniedException.class })
+    public ErrorDto forbidden(RuntimeException ex) {
+        return new ErrorDto(FORBIDDEN.value(), ex.getMessage());
+    }
+
+    @ResponseStatus(UNAUTHORIZED)
+    @ExceptionHandler({ InvalidRefreshTokenException.class, AuthenticationException.class })
+    public ErrorDto unauthorized(RuntimeException ex) {
+        return new ErrorDto(UNAUTHORIZED.value(), ex.getMessage());
+    }
+
+    @ResponseStatus(SERVICE_UNAVAILABLE)
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ErrorDto serviceUnavailable(RuntimeException ex) {
+        return new ErrorDto(SERVICE_UNAVAILABLE.value(), ex.getMessage());
+    }
+}
@@ -0,0 +1,34 @@
+package com.inhwan.reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/* 이벤트 루프를 막지 않도록 블로킹 작업(JPA, BCrypt)을 수행할 크기가 제한된 scheduler */
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveSchedulersConfig {
+
+	public static final String JPA_SCHEDULER = "jpaScheduler";
+	public static final String PASSWORD_SCHEDULER = "passwordScheduler";
+
+	// JPA 조회는 커넥션 풀 크기 이상 동시에 실행해도 대기만 늘어나므로 같은 크기로 제한
+	@Bean(name = JPA_SCHEDULER, destroyMethod = "dispose")
+	public Scheduler jpaScheduler(@Value("${reactive.jpa.threads:10}") int threads,
+			@Value("${reactive.jpa.queue-capacity:1000}") int queueCapacity) {
+		return Schedulers.newBoundedElastic(threads, queueCapacity, "jpa");
+	}
+
+	// BCrypt는 BoundedPasswordEncoder 풀에서 수행되고, 이 scheduler는 결과를 기다리는 스레드만 제한한다
+	@Bean(name = PASSWORD_SCHEDULER, destroyMethod = "dispose")
+	public Scheduler passwordScheduler(@Value("${reactive.password.threads:0}") int threads,
+			@Value("${security.password.queue-capacity:64}") int queueCapacity) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		return Schedulers.newBoundedElastic(poolSize, queueCapacity, "password");
+	}
+}
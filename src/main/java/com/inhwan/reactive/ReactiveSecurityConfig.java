@@ -0,0 +1,100 @@
+package com.inhwan.reactive;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authorization.HttpStatusServerAccessDeniedHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inhwan.jwt.TokenProvider;
+import com.inhwan.ratelimit.LoginRateLimitWebFilter;
+import com.inhwan.ratelimit.LoginRateLimiter;
+import com.inhwan.util.RoleExpressionParser;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/* reactive 프로필(Netty)에서 사용하는 SecurityConfig의 WebFlux 버전 */
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity // PreAuthorized 어노테이션을 Mono를 리턴하는 메서드에 사용하기 위해
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+	// @EnableReactiveMethodSecurity가 등록하는 expression handler에도 servlet과 같은 bitmask 권한 검사를 적용
+	@Bean
+	static BeanPostProcessor roleExpressionParserPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DefaultMethodSecurityExpressionHandler expressionHandler) {
+					expressionHandler.setExpressionParser(new RoleExpressionParser("ROLE_"));
+				}
+				return bean;
+			}
+		};
+	}
+
+	// 로그인 시 사용하는 인증 매니저. 유저 조회는 jpaScheduler, 비밀번호 검증은 passwordScheduler에서 수행
+	@Bean
+	public ReactiveAuthenticationManager reactiveAuthenticationManager(
+			ReactiveCustomUserDetailsService reactiveUserDetailsService,
+			PasswordEncoder passwordEncoder,
+			@Qualifier(ReactiveSchedulersConfig.PASSWORD_SCHEDULER) Scheduler passwordScheduler) {
+		UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+				new UserDetailsRepositoryReactiveAuthenticationManager(reactiveUserDetailsService);
+		authenticationManager.setPasswordEncoder(passwordEncoder);
+		authenticationManager.setUserDetailsPasswordService(reactiveUserDetailsService);
+		authenticationManager.setScheduler(passwordScheduler);
+		return authenticationManager;
+	}
+
+	@Bean
+	public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, TokenProvider tokenProvider,
+			LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper) {
+		// 토큰 검증은 converter에서 끝나므로 인증 매니저는 받은 Authentication을 그대로 돌려준다
+		AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter((ReactiveAuthenticationManager) Mono::just);
+		jwtFilter.setServerAuthenticationConverter(new JwtServerAuthenticationConverter(tokenProvider));
+		jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+		return http
+				// token을 사용하는 방식이기 때문에 csrf disable
+				.csrf(csrf -> csrf.disable())
+				.httpBasic(httpBasic -> httpBasic.disable())
+				.formLogin(formLogin -> formLogin.disable())
+
+				// 세션을 사용하지 않기 때문에 SecurityContext를 저장하지 않음
+				.securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+				.exceptionHandling(exceptionHandling -> exceptionHandling
+						.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED))
+						.accessDeniedHandler(new HttpStatusServerAccessDeniedHandler(HttpStatus.FORBIDDEN)))
+
+				.authorizeExchange(authorizeExchange -> authorizeExchange
+						.pathMatchers("/api/hello", "/api/authenticate", "/api/refresh", "/api/signup", "/.well-known/jwks.json").permitAll()
+						.pathMatchers("/actuator/health").permitAll()
+						.pathMatchers("/actuator/**").hasRole("ADMIN")
+						.anyExchange().authenticated())
+
+				// 로그인 시도 제한은 유저 조회, BCrypt 전에 확인
+				.addFilterBefore(new LoginRateLimitWebFilter(loginRateLimiter, objectMapper), SecurityWebFiltersOrder.AUTHENTICATION)
+				.addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+				.build();
+	}
+}
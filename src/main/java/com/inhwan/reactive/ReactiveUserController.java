@@ -0,0 +1,71 @@
+package com.inhwan.reactive;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inhwan.dto.UserDto;
+import com.inhwan.exception.NotFoundMemberException;
+import com.inhwan.service.UserService;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/* UserController의 reactive 버전. UserService의 JPA 작업은 jpaScheduler에서 수행 */
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveUserController {
+    private final UserService userService;
+    private final Scheduler jpaScheduler;
+
+    public ReactiveUserController(UserService userService,
+                                  @Qualifier(ReactiveSchedulersConfig.JPA_SCHEDULER) Scheduler jpaScheduler) {
+        this.userService = userService;
+        this.jpaScheduler = jpaScheduler;
+    }
+
+    @GetMapping("/hello")
+    public Mono<ResponseEntity<String>> hello() {
+        return Mono.just(ResponseEntity.ok("hello"));
+    }
+
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<UserDto>> signup(@Valid @RequestBody UserDto userDto) {
+        return Mono.fromCallable(() -> userService.signup(userDto))
+                .subscribeOn(jpaScheduler)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/user")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    // SecurityContextHolder 대신 ReactiveSecurityContextHolder에서 username을 꺼낸다
+    public Mono<ResponseEntity<UserDto>> getMyUserInfo() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(securityContext -> securityContext.getAuthentication().getName())
+                .switchIfEmpty(Mono.error(() -> new NotFoundMemberException("Member not found")))
+                .flatMap(username -> Mono.fromCallable(() -> userService.getUserWithAuthorities(username))
+                        .subscribeOn(jpaScheduler))
+                .switchIfEmpty(Mono.error(() -> new NotFoundMemberException("Member not found")))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/user/{username}")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    public Mono<ResponseEntity<UserDto>> getUserInfo(@PathVariable String username) {
+        return Mono.fromCallable(() -> userService.getUserWithAuthorities(username))
+                .subscribeOn(jpaScheduler)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().build());
+    }
+}
@@ -0,0 +1,8 @@
+package com.inhwan.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.inhwan.entity.Authority;
+
+public interface AuthorityRepository extends JpaRepository<Authority, String> {
+}
@@ -0,0 +1,39 @@
+package com.inhwan.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inhwan.entity.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+	//토큰 해시 인덱스로 조회하면서 새 access token 발급에 필요한 유저와 권한 정보를 같이 가져온다.
+	@EntityGraph(attributePaths = { "user", "user.authorities" })
+	Optional<RefreshToken> findOneWithUserByTokenHash(String tokenHash);
+
+	//아직 사용되지 않은 토큰만 사용 처리한다. 0이 리턴되면 이미 다른 요청이 사용한 토큰이다.
+	@Modifying
+	@Query("update RefreshToken r set r.used = true where r.refreshTokenId = :id and r.used = false")
+	int markUsed(@Param("id") Long refreshTokenId);
+
+	//재사용이 감지된 토큰 묶음을 모두 폐기
+	@Modifying
+	@Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId")
+	int revokeFamily(@Param("familyId") String familyId);
+
+	//유저의 모든 refresh token을 폐기 (관리자 강제 로그아웃)
+	@Modifying
+	@Query("update RefreshToken r set r.revoked = true where r.user.username = :username")
+	int revokeAllByUsername(@Param("username") String username);
+
+	//만료된 refresh token 정리 (expires_at 인덱스, 사용/폐기된 토큰도 만료 전까지는 재사용 감지를 위해 남겨둔다)
+	@Modifying
+	@Query("delete from RefreshToken r where r.expiresAt < :now")
+	int deleteByExpiresAtBefore(@Param("now") Instant now);
+}
@@ -0,0 +1,22 @@
+package com.inhwan.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inhwan.entity.RevokedToken;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+	//마지막으로 읽은 이후에 추가된 폐기 기록만 가져온다 (다른 노드에서 폐기한 토큰 반영)
+	List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(Instant revokedAt, Instant now);
+
+	//만료된 토큰의 폐기 기록 정리
+	@Modifying
+	@Query("delete from RevokedToken r where r.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -1,16 +1,61 @@
 package com.inhwan.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.inhwan.dto.UserSummaryDto;
 import com.inhwan.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 public interface UserRepository extends JpaRepository<User, Long> {
 	
 	//EntityGraph 어노테이션은 query가 수행될 때 Lazy 조회가 아니라 Eager 조회로 authorities 정보를 같이 가져온다.
 	@EntityGraph(attributePaths = "authorities")
 	//유저 정보와 권한 정보를 같이 가져오는 메서드
 	Optional<User> findOneWithAuthoritiesByUsername(String username);
+	
+	//권한 정보 없이 유저 정보만 가져오는 메서드 (refresh token 저장 등 user_id만 필요한 경우)
+	Optional<User> findOneByUsername(String username);
+	
+	//가입 여부만 확인하는 메서드 (권한 조인 없이 exists 쿼리 한 번)
+	boolean existsByUsername(String username);
+	
+	//주어진 username 중 이미 가입된 것만 반환 (대량 가입 시 chunk 단위로 중복 확인)
+	@Query("select u.username from User u where u.username in :usernames")
+	List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+	
+	//user_id 기준 keyset 페이지 (offset 없이 인덱스에서 바로 다음 위치를 찾으므로 뒤쪽 페이지도 같은 비용)
+	@Query("select new com.inhwan.dto.UserSummaryDto(u.userId, u.username, u.nickname, u.activated) "
+			+ "from User u where u.userId > :after order by u.userId")
+	List<UserSummaryDto> findSummariesAfter(@Param("after") long after, Pageable pageable);
+	
+	//username 앞부분 검색 + username 기준 keyset 페이지
+	//조건과 정렬이 모두 username 인덱스를 타므로 prefix 범위 안에서 다음 위치부터 size 만큼만 읽는다 (검색 범위, 페이지 깊이와 관계없는 비용)
+	@Query("select new com.inhwan.dto.UserSummaryDto(u.userId, u.username, u.nickname, u.activated) "
+			+ "from User u where u.username like :prefix escape '\\' and u.username > :afterUsername order by u.username")
+	List<UserSummaryDto> findSummariesByUsernamePrefixAfter(@Param("prefix") String prefix, @Param("afterUsername") String afterUsername, Pageable pageable);
+	
+	//한 페이지 유저들의 권한을 쿼리 한 번으로 조회 ([user_id, authority_name])
+	@Query("select u.userId, a.authorityName from User u join u.authorities a where u.userId in :userIds")
+	List<Object[]> findAuthorityNamesByUserIds(@Param("userIds") Collection<Long> userIds);
+	
+	//내보내기용 [user_id, username, nickname, activated, authority_name] 행을 user_id 순서로 스트리밍
+	//엔티티를 만들지 않고 forward-only 커서로 fetch size 만큼씩 가져온다 (트랜잭션 안에서 사용하고 반드시 close)
+	@QueryHints({
+			@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true") })
+	@Query("select u.userId, u.username, u.nickname, u.activated, a.authorityName "
+			+ "from User u left join u.authorities a order by u.userId")
+	Stream<Object[]> streamAllForExport();
 }
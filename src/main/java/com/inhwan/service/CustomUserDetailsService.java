@@ -1,41 +1,75 @@
 package com.inhwan.service;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
 
-import com.inhwan.entity.User;
+import com.inhwan.dto.UserSnapshot;
 import com.inhwan.repository.UserRepository;
+import com.inhwan.util.AuthorityRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import jakarta.transaction.Transactional;
 
-public class CustomUserDetailsService implements UserDetailsService {
+@Component("userDetailsService")
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
 	private final UserRepository userRepository;
+	private final UserCache userCache;
+	private final Timer loadTimer;
 
-	public CustomUserDetailsService(UserRepository userRepository) {
+	public CustomUserDetailsService(UserRepository userRepository, UserCache userCache, MeterRegistry meterRegistry) {
 		this.userRepository = userRepository;
+		this.userCache = userCache;
+		this.loadTimer = Timer.builder("security.user-details.load")
+				.description("로그인 시 유저 정보를 불러오는 데 걸린 시간 (캐시 포함)")
+				.register(meterRegistry);
 	}
 
 	@Override
-	@Transactional
 	public UserDetails loadUserByUsername(final String username) {
-		return userRepository.findOneWithAuthoritiesByUsername(username).map(user -> createUser(username, user))
-				.orElseThrow(() -> new UsernameNotFoundException(username + " -> 데이터베이스에서 찾을 수 없습니다."));
+		long start = System.nanoTime();
+		try {
+			UserSnapshot user = userCache.get(username);	// 캐시에 없을 때만 DB 조인 쿼리를 수행
+			if (user == null) {
+				throw new UsernameNotFoundException(username + " -> 데이터베이스에서 찾을 수 없습니다.");
+			}
+			return createUser(username, user);
+		} finally {
+			loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	@Transactional
+	// 저장된 해시의 BCrypt cost가 설정과 다르면 로그인에 성공했을 때 새 cost로 다시 해싱한 비밀번호를 저장
+	public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+		return userRepository.findOneWithAuthoritiesByUsername(userDetails.getUsername())
+				.map(user -> {
+					user.setPassword(newPassword);
+					userRepository.save(user);
+					userCache.evict(user.getUsername());	// 캐시에 남은 예전 해시를 제거
+					return createUser(user.getUsername(), UserSnapshot.from(user));
+				})
+				.orElseThrow(() -> new UsernameNotFoundException(userDetails.getUsername() + " -> 데이터베이스에서 찾을 수 없습니다."));
 	}
 
-	private org.springframework.security.core.userdetails.User createUser(String username, User user) {
+	private org.springframework.security.core.userdetails.User createUser(String username, UserSnapshot user) {
 		if (!user.isActivated()) {	// User의 활성화 상태를 체크
 			throw new RuntimeException(username + " -> 활성화되어 있지 않습니다.");
 		}
 
-		List<GrantedAuthority> grantedAuthorities = user.getAuthorities().stream()
-				.map(authority -> new SimpleGrantedAuthority(authority.getAuthorityName()))
+		List<GrantedAuthority> grantedAuthorities = user.getAuthorityNames().stream()
+				.map(AuthorityRegistry::authority)
 				.collect(Collectors.toList());
 
 		return new org.springframework.security.core.userdetails.User(user.getUsername(), user.getPassword(),
@@ -0,0 +1,122 @@
+package com.inhwan.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inhwan.dto.TokenDto;
+import com.inhwan.entity.RefreshToken;
+import com.inhwan.entity.User;
+import com.inhwan.exception.InvalidRefreshTokenException;
+import com.inhwan.jwt.TokenProvider;
+import com.inhwan.repository.RefreshTokenRepository;
+import com.inhwan.repository.UserRepository;
+import com.inhwan.util.AuthorityRegistry;
+
+@Service
+public class RefreshTokenService {
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenProvider tokenProvider;
+    private final long refreshTokenValidityInSeconds;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               TokenProvider tokenProvider,
+                               @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.tokenProvider = tokenProvider;
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+    }
+
+    @Transactional
+    // 로그인에 성공한 유저에게 access token과 새 refresh token 묶음을 발급
+    public TokenDto issue(Authentication authentication) {
+        User user = userRepository.findOneByUsername(authentication.getName())
+                .orElseThrow(() -> new InvalidRefreshTokenException("유저를 찾을 수 없습니다."));
+
+        String refreshToken = createRefreshToken(user, UUID.randomUUID().toString());
+        return new TokenDto(tokenProvider.createToken(authentication), refreshToken);
+    }
+
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    // refresh token을 새 토큰으로 교체하고 access token을 재발급 (BCrypt 없이 해시 인덱스 조회 한 번)
+    public TokenDto rotate(String rawRefreshToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findOneWithUserByTokenHash(hash(rawRefreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 refresh token 입니다."));
+
+        if (refreshToken.isRevoked() || refreshToken.getExpiresAt().isBefore(Instant.now())) {
+            throw new InvalidRefreshTokenException("만료되었거나 폐기된 refresh token 입니다.");
+        }
+
+        // 이미 교체된 토큰이 다시 들어오면 탈취된 것으로 보고 같은 묶음을 모두 폐기
+        if (refreshToken.isUsed() || refreshTokenRepository.markUsed(refreshToken.getRefreshTokenId()) == 0) {
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException("이미 사용된 refresh token 입니다.");
+        }
+
+        User user = refreshToken.getUser();
+        if (!user.isActivated()) {
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException(user.getUsername() + " -> 활성화되어 있지 않습니다.");
+        }
+
+        List<GrantedAuthority> authorities = user.getAuthorities().stream()
+                .map(authority -> AuthorityRegistry.authority(authority.getAuthorityName()))
+                .collect(Collectors.toList());
+        String accessToken = tokenProvider.createToken(user.getUsername(), authorities);
+
+        return new TokenDto(accessToken, createRefreshToken(user, refreshToken.getFamilyId()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-cleanup-interval-millis:600000}")
+    @Transactional
+    // 로그인, 재발급마다 행이 추가되므로 만료된 refresh token은 주기적으로 지운다
+    public void deleteExpired() {
+        refreshTokenRepository.deleteByExpiresAtBefore(Instant.now());
+    }
+
+    private String createRefreshToken(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        SECURE_RANDOM.nextBytes(bytes);
+        String rawRefreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawRefreshToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(Instant.now().plusSeconds(refreshTokenValidityInSeconds))
+                .build());
+        return rawRefreshToken;
+    }
+
+    // refresh token은 충분히 긴 난수이므로 BCrypt 대신 SHA-256 해시로 저장하고 인덱스로 조회
+    static String hash(String rawRefreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawRefreshToken.getBytes(StandardCharsets.US_ASCII));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
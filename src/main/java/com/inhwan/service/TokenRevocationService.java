@@ -0,0 +1,174 @@
+package com.inhwan.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inhwan.cache.CacheInvalidation;
+import com.inhwan.cache.SharedCacheStore;
+
+import com.inhwan.entity.RevokedToken;
+import com.inhwan.jwt.TokenAuthenticationCache;
+import com.inhwan.jwt.TokenRevocationList;
+import com.inhwan.repository.RefreshTokenRepository;
+import com.inhwan.repository.RevokedTokenRepository;
+
+@Service
+public class TokenRevocationService {
+    // 다른 노드의 트랜잭션 커밋이 늦게 보이는 경우를 대비해 조금 겹치게 다시 읽는다
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+    private static final String REGION = "revocations";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final Duration tokenValidity;
+    private final SharedCacheStore sharedCacheStore;
+    private final TransactionTemplate refreshTransaction;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Object refreshLock = new Object();	// 스케줄러와 무효화 이벤트가 동시에 refresh 하지 않도록
+
+    private volatile Instant lastRefresh = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  RefreshTokenRepository refreshTokenRepository,
+                                  TokenRevocationList tokenRevocationList,
+                                  TokenAuthenticationCache tokenAuthenticationCache,
+                                  @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
+                                  SharedCacheStore sharedCacheStore,
+                                  PlatformTransactionManager transactionManager) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.tokenAuthenticationCache = tokenAuthenticationCache;
+        this.tokenValidity = Duration.ofSeconds(tokenValidityInSeconds);
+        this.sharedCacheStore = sharedCacheStore;
+        // 무효화 이벤트는 다른 트랜잭션의 afterCommit에서 올 수 있으므로 새 읽기 전용 트랜잭션에서 읽는다
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setReadOnly(true);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // 다른 노드에서 폐기가 커밋되면 주기를 기다리지 않고 바로 증분 갱신
+        sharedCacheStore.subscribe(invalidation -> {
+            if (REGION.equals(invalidation.getRegion()) && !nodeId.equals(invalidation.getOrigin())) {
+                refresh();
+            }
+        });
+    }
+
+    @Transactional
+    // 토큰 하나를 폐기 (로그아웃)
+    public void revokeToken(String jti, Instant expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .revokedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build());
+        afterCommit(() -> {
+            tokenRevocationList.revokeToken(jti, expiresAt.toEpochMilli());
+            publish();
+        });
+    }
+
+    @Transactional
+    // 로그아웃: access token과 함께, 넘겨받은 refresh token의 교체 묶음도 폐기 (로그아웃한 뒤 /api/refresh 로 재발급하지 못하도록)
+    public void logout(String username, String jti, Instant expiresAt, String rawRefreshToken) {
+        if (jti != null) {
+            revokeToken(jti, expiresAt);
+        }
+        if (rawRefreshToken != null) {
+            refreshTokenRepository.findOneWithUserByTokenHash(RefreshTokenService.hash(rawRefreshToken))
+                    .filter(refreshToken -> refreshToken.getUser().getUsername().equals(username))	// 다른 유저의 묶음은 건드리지 않는다
+                    .ifPresent(refreshToken -> refreshTokenRepository.revokeFamily(refreshToken.getFamilyId()));
+        }
+    }
+
+    @Transactional
+    // jti만 알고 있는 토큰을 폐기 (만료 시각을 모르므로 가장 긴 유효기간 동안 유지)
+    public void revokeToken(String jti) {
+        revokeToken(jti, Instant.now().plus(tokenValidity));
+    }
+
+    @Transactional
+    // 지금까지 발급된 유저의 모든 access token과 refresh token을 폐기
+    public void revokeUser(String username) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(tokenValidity);
+        revokedTokenRepository.save(RevokedToken.builder()
+                .username(username)
+                .revokedAt(now)
+                .expiresAt(expiresAt)
+                .build());
+        refreshTokenRepository.revokeAllByUsername(username);
+
+        afterCommit(() -> {
+            tokenRevocationList.revokeUser(username, now.toEpochMilli(), expiresAt.toEpochMilli());
+            tokenAuthenticationCache.invalidateUser(username);
+            publish();
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-millis:5000}")
+    // 다른 노드에서 추가된 폐기 기록을 증분으로 읽어와 메모리 목록에 반영하고, 만료된 기록을 정리
+    public void refresh() {
+        synchronized (refreshLock) {
+            refreshTransaction.executeWithoutResult(status -> refreshRevocations());
+        }
+    }
+
+    private void refreshRevocations() {
+        Instant now = Instant.now();
+        Instant since = lastRefresh.equals(Instant.EPOCH) ? Instant.EPOCH : lastRefresh.minus(REFRESH_OVERLAP);
+
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(since, now);
+        for (RevokedToken revokedToken : revokedTokens) {
+            if (revokedToken.getJti() != null) {
+                tokenRevocationList.revokeToken(revokedToken.getJti(), revokedToken.getExpiresAt().toEpochMilli());
+            } else {
+                tokenRevocationList.revokeUser(revokedToken.getUsername(),
+                        revokedToken.getRevokedAt().toEpochMilli(), revokedToken.getExpiresAt().toEpochMilli());
+                tokenAuthenticationCache.invalidateUser(revokedToken.getUsername());
+            }
+        }
+
+        tokenRevocationList.prune(now.toEpochMilli());
+        lastRefresh = now;
+    }
+
+    // 메모리 목록 반영과 알림은 DB에 커밋된 뒤에 한다 (롤백된 폐기가 이 노드에만 남지 않도록)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 다른 노드가 DB에서 읽을 수 있도록 커밋된 뒤에 알린다 (이벤트가 유실되어도 refresh 주기 안에는 반영됨)
+    private void publish() {
+        sharedCacheStore.publish(new CacheInvalidation(REGION, null, nodeId));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval-millis:600000}")
+    @Transactional
+    // 만료된 토큰의 폐기 기록은 DB에서도 지운다
+    public void deleteExpired() {
+        revokedTokenRepository.deleteExpired(Instant.now());
+    }
+}
@@ -0,0 +1,51 @@
+package com.inhwan.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.inhwan.cache.SharedCacheStore;
+import com.inhwan.cache.TwoLevelCache;
+import com.inhwan.dto.UserSnapshot;
+import com.inhwan.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+/*
+ * findOneWithAuthoritiesByUsername 결과를 username 기준으로 캐싱하는 read-through 캐시
+ * 노드 메모리(L1)와 공유 저장소(L2) 두 단계이고, 무효화는 모든 노드에 전달된다.
+ * 권한 변경이나 비활성화가 다른 노드에 늦게 반영되는 시간은 stale-window-seconds 를 넘지 않는다.
+ */
+public class UserCache {
+    private final UserRepository userRepository;
+    private final TwoLevelCache<UserSnapshot> cache;
+
+    public UserCache(UserRepository userRepository,
+                     SharedCacheStore sharedCacheStore,
+                     @Value("${user.cache.max-entries:10000}") long maxEntries,
+                     @Value("${user.cache.ttl-seconds:300}") long ttlSeconds,
+                     @Value("${user.cache.stale-window-seconds:10}") long staleWindowSeconds,
+                     MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = new TwoLevelCache<>("users", UserSnapshot.class, sharedCacheStore,
+                maxEntries, Duration.ofSeconds(staleWindowSeconds), Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    // 캐시에 없으면 user, user_authority, authority 조인 쿼리로 읽어서 캐싱. 없는 유저는 캐싱하지 않는다
+    public UserSnapshot get(String username) {
+        return cache.get(username, key -> userRepository.findOneWithAuthoritiesByUsername(key)
+                .map(UserSnapshot::from)
+                .orElse(null));
+    }
+
+    // 회원가입, 권한 변경, 비밀번호 변경, 활성화 상태 변경 시 호출 (모든 노드에서 무효화)
+    public void evict(String username) {
+        cache.evict(username);
+    }
+
+    public void evictAll() {
+        cache.evictAll();
+    }
+}
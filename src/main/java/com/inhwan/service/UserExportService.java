@@ -0,0 +1,105 @@
+package com.inhwan.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inhwan.dto.UserSummaryDto;
+import com.inhwan.repository.UserRepository;
+
+/*
+ * 전체 유저와 권한을 NDJSON / CSV로 내보내는 서비스
+ * DB 커서에서 읽은 행을 한 명씩 바로 출력 스트림에 쓰므로 유저 수와 관계없이 힙 사용량이 일정하다.
+ * 클라이언트가 느리게 읽으면 소켓 쓰기가 막히고, 그동안 커서도 더 읽지 않는다.
+ */
+@Service
+public class UserExportService {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    public enum Format { NDJSON, CSV }
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserExportService(UserRepository userRepository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // outputStream은 닫지 않는다 (gzip 등 감싼 쪽에서 마무리)
+    public void export(OutputStream outputStream, Format format) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = userRepository.streamAllForExport()) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+                if (format == Format.CSV) {
+                    writer.write("user_id,username,nickname,activated,authorities\n");
+                }
+
+                // 쿼리가 user_id 순서이므로 같은 유저의 권한 행은 연속으로 나온다
+                UserSummaryDto current = null;
+                Iterator<Object[]> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    Object[] row = iterator.next();
+                    Long userId = (Long) row[0];
+                    if (current == null || !current.getUserId().equals(userId)) {
+                        if (current != null) {
+                            write(writer, current, format);
+                        }
+                        current = new UserSummaryDto(userId, (String) row[1], (String) row[2], (Boolean) row[3]);
+                    }
+                    if (row[4] != null) {
+                        current.getAuthorities().add((String) row[4]);
+                    }
+                }
+                if (current != null) {
+                    write(writer, current, format);
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(Writer writer, UserSummaryDto user, Format format) throws IOException {
+        if (format == Format.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(user));
+        } else {
+            writer.write(String.valueOf(user.getUserId()));
+            writer.write(',');
+            writer.write(csv(user.getUsername()));
+            writer.write(',');
+            writer.write(csv(user.getNickname()));
+            writer.write(',');
+            writer.write(String.valueOf(user.isActivated()));
+            writer.write(',');
+            writer.write(csv(String.join(";", user.getAuthorities())));
+        }
+        writer.write('\n');
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있는 값만 따옴표로 감싼다
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
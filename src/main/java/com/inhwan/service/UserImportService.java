@@ -0,0 +1,391 @@
+package com.inhwan.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inhwan.dto.UserImportDto;
+import com.inhwan.dto.UserImportResultDto;
+import com.inhwan.entity.Authority;
+import com.inhwan.entity.User;
+import com.inhwan.exception.PasswordHashingRejectedException;
+import com.inhwan.repository.AuthorityRepository;
+import com.inhwan.repository.UserRepository;
+import com.inhwan.util.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/*
+ * NDJSON / CSV 파일로 유저를 대량 가입시키는 서비스
+ * 파일을 한 줄씩 읽어 chunk 단위로 중복 확인 -> 병렬 해싱 -> batch insert 하고, 실패한 행은 전체를 실패시키지 않고 결과에 남긴다.
+ * 해싱은 로그인용 BCrypt 풀(BoundedPasswordEncoder)이 아니라 이 서비스 전용 풀에서 하므로 대량 가입 중에도 로그인이 503으로 밀리지 않는다.
+ */
+@Service
+public class UserImportService implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String DEFAULT_AUTHORITY = "ROLE_USER";
+
+    public enum Format { NDJSON, CSV }
+
+    private final UserRepository userRepository;
+    private final AuthorityRepository authorityRepository;
+    private final PasswordEncoder passwordEncoder;	// 로그인용 풀을 거치지 않는 같은 cost의 encoder
+    private final ThreadPoolExecutor hashingExecutor;
+    private final UserCache userCache;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public UserImportService(UserRepository userRepository,
+                             AuthorityRepository authorityRepository,
+                             PasswordEncoder passwordEncoder,
+                             UserCache userCache,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${user.import.chunk-size:500}") int chunkSize,
+                             @Value("${user.import.max-reported-errors:1000}") int maxReportedErrors,
+                             @Value("${user.import.hashing-threads:0}") int hashingThreads) {
+        this.userRepository = userRepository;
+        this.authorityRepository = authorityRepository;
+        this.passwordEncoder = passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder
+                ? new BCryptPasswordEncoder(boundedPasswordEncoder.getStrength())
+                : passwordEncoder;
+        this.hashingExecutor = hashingExecutor(hashingThreads > 0
+                ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));	// 나머지 코어는 로그인용으로 남긴다
+        ExecutorServiceMetrics.monitor(meterRegistry, hashingExecutor, "user.import.hashing");
+        this.userCache = userCache;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public UserImportResultDto importUsers(InputStream inputStream, Format format) throws IOException {
+        // Authority는 몇 개 되지 않으므로 한 번만 읽어서 모든 행이 같은 객체를 참조하게 한다
+        Map<String, Authority> authorities = authorityRepository.findAll().stream()
+                .collect(Collectors.toMap(Authority::getAuthorityName, authority -> authority));
+
+        UserImportResultDto result = new UserImportResultDto();
+        Set<String> seenUsernames = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            Map<String, Integer> csvColumns = null;
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && csvColumns == null) {
+                    try {
+                        csvColumns = csvHeader(line);	// 첫 줄은 헤더
+                    } catch (IllegalArgumentException e) {
+                        fail(result, lineNumber, null, e.getMessage());
+                        return result;	// 헤더를 읽을 수 없으면 나머지 행도 해석할 수 없다
+                    }
+                    continue;
+                }
+
+                result.setTotal(result.getTotal() + 1);
+                UserImportDto userImportDto;
+                try {
+                    userImportDto = format == Format.CSV ? parseCsv(line, csvColumns) : objectMapper.readValue(line, UserImportDto.class);
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    fail(result, lineNumber, null, "행을 읽을 수 없습니다.");
+                    continue;
+                }
+
+                String error = validate(userImportDto, authorities);
+                if (error != null) {
+                    fail(result, lineNumber, userImportDto.getUsername(), error);
+                    continue;
+                }
+                if (!seenUsernames.add(userImportDto.getUsername())) {
+                    fail(result, lineNumber, userImportDto.getUsername(), "파일 안에 같은 username이 이미 있습니다.");
+                    continue;
+                }
+
+                chunk.add(new Row(lineNumber, userImportDto));
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, authorities, result);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, authorities, result);
+        }
+
+        logger.info("유저 대량 가입 완료. 전체: {}, 성공: {}, 실패: {}", result.getTotal(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private void importChunk(List<Row> chunk, Map<String, Authority> authorities, UserImportResultDto result) {
+        // 이미 가입된 username은 chunk 단위 in 쿼리 한 번으로 확인
+        Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(
+                chunk.stream().map(row -> row.userImportDto.getUsername()).collect(Collectors.toList())));
+
+        List<Row> candidates = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existing.contains(row.userImportDto.getUsername())) {
+                fail(result, row.lineNumber, row.userImportDto.getUsername(), "이미 가입되어 있는 유저입니다.");
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // BCrypt는 전용 풀에서 병렬로 수행되고, 풀이 밀리면 이 스레드가 직접 해싱하면서 파일 읽기 속도를 늦춘다
+        List<Future<String>> hashes = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            String rawPassword = row.userImportDto.getPassword();
+            try {
+                hashes.add(hashingExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+            } catch (RejectedExecutionException e) {
+                hashes.add(null);	// 서버 종료 중
+            }
+        }
+
+        List<Row> hashed = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Row row = candidates.get(i);
+            String error = row.hash(hashes.get(i));
+            if (error != null) {
+                fail(result, row.lineNumber, row.userImportDto.getUsername(), error);
+            } else {
+                row.user.setAuthorities(authoritiesOf(row.userImportDto, authorities));
+                hashed.add(row);
+            }
+        }
+        if (hashed.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.saveAll(hashed.stream().map(row -> row.user).collect(Collectors.toList())));
+            hashed.forEach(row -> imported(result, row));
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청으로 같은 username이 가입된 경우, 이 chunk만 한 건씩 다시 저장
+            for (Row row : hashed) {
+                row.user.setUserId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.save(row.user));
+                    imported(result, row);
+                } catch (DataIntegrityViolationException duplicate) {
+                    fail(result, row.lineNumber, row.userImportDto.getUsername(), "이미 가입되어 있는 유저입니다.");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdownNow();
+    }
+
+    // 대기 큐가 가득 차면 요청 스레드가 직접 해싱한다 (거절하지 않고 대기열 길이로 속도를 맞춘다)
+    private static ThreadPoolExecutor hashingExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("해싱 풀이 종료되었습니다.");
+                    }
+                    runnable.run();
+                });
+    }
+
+    private void imported(UserImportResultDto result, Row row) {
+        result.setImported(result.getImported() + 1);
+        userCache.evict(row.userImportDto.getUsername());	// 가입 전에 조회된 기록이 남아있지 않도록 무효화
+    }
+
+    private void fail(UserImportResultDto result, long lineNumber, String username, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new UserImportResultDto.RowError(lineNumber, username, message));
+        }
+    }
+
+    private String validate(UserImportDto userImportDto, Map<String, Authority> authorities) {
+        Set<ConstraintViolation<UserImportDto>> violations = validator.validate(userImportDto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (userImportDto.getAuthorities() != null) {
+            for (String authorityName : userImportDto.getAuthorities()) {
+                if (!authorities.containsKey(authorityName)) {
+                    return "존재하지 않는 권한입니다: " + authorityName;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Set<Authority> authoritiesOf(UserImportDto userImportDto, Map<String, Authority> authorities) {
+        if (userImportDto.getAuthorities() == null || userImportDto.getAuthorities().isEmpty()) {
+            return Set.of(authorities.get(DEFAULT_AUTHORITY));
+        }
+        Set<Authority> result = new HashSet<>();
+        for (String authorityName : userImportDto.getAuthorities()) {
+            result.add(authorities.get(authorityName));
+        }
+        return result;
+    }
+
+    // CSV 헤더: username,password,nickname[,authorities] (authorities는 ';'로 구분)
+    private static Map<String, Integer> csvHeader(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(), i);
+        }
+        for (String required : List.of("username", "password", "nickname")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV 헤더에 " + required + " 컬럼이 없습니다.");
+            }
+        }
+        return columns;
+    }
+
+    private static UserImportDto parseCsv(String line, Map<String, Integer> columns) {
+        List<String> values = splitCsv(line);
+        if (values.size() < columns.size()) {
+            throw new IllegalArgumentException("컬럼 수가 헤더와 다릅니다.");
+        }
+        Integer authoritiesColumn = columns.get("authorities");
+        List<String> authorities = null;
+        if (authoritiesColumn != null && !values.get(authoritiesColumn).isBlank()) {
+            authorities = Arrays.stream(values.get(authoritiesColumn).split(";"))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toList());
+        }
+        return UserImportDto.builder()
+                .username(values.get(columns.get("username")))
+                .password(values.get(columns.get("password")))
+                .nickname(values.get(columns.get("nickname")))
+                .authorities(authorities)
+                .build();
+    }
+
+    // 한 줄짜리 CSV 레코드를 나눈다 ("..." 안의 쉼표와 "" 이스케이프 지원)
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static final class Row {
+        private final long lineNumber;
+        private final UserImportDto userImportDto;
+        private User user;	// 해싱에 성공하면 채워진다
+
+        private Row(long lineNumber, UserImportDto userImportDto) {
+            this.lineNumber = lineNumber;
+            this.userImportDto = userImportDto;
+        }
+
+        // 해싱 결과로 User를 만든다. 실패하면 결과에 남길 이유를 리턴
+        private String hash(Future<String> encodedPassword) {
+            if (encodedPassword == null) {
+                return "비밀번호 해싱이 거절되었습니다.";
+            }
+            try {
+                user = User.builder()
+                        .username(userImportDto.getUsername())
+                        .password(encodedPassword.get())
+                        .nickname(userImportDto.getNickname())
+                        .activated(true)
+                        .build();
+                return null;
+            } catch (InterruptedException e) {
+                encodedPassword.cancel(true);
+                Thread.currentThread().interrupt();
+                return "비밀번호 해싱이 중단되었습니다.";
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof PasswordHashingRejectedException) {
+                    return "비밀번호 해싱이 거절되었습니다.";
+                }
+                logger.warn("비밀번호 해싱 실패", e.getCause());
+                return "비밀번호를 해싱하지 못했습니다.";
+            }
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.inhwan.service;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.inhwan.dto.UserDto;
+import com.inhwan.dto.UserPageDto;
+import com.inhwan.dto.UserSummaryDto;
 import com.inhwan.entity.Authority;
 import com.inhwan.entity.User;
 import com.inhwan.exception.DuplicateMemberException;
@@ -19,10 +26,15 @@ import com.inhwan.util.SecurityUtil;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final TokenRevocationService tokenRevocationService;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserCache userCache,
+                       TokenRevocationService tokenRevocationService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Transactional
@@ -30,7 +42,7 @@ public class UserService {
     public UserDto signup(UserDto userDto) {
     	
     	// 기존에 존재한 회원인지 체크
-        if (userRepository.findOneWithAuthoritiesByUsername(userDto.getUsername()).orElse(null) != null) {
+        if (userRepository.existsByUsername(userDto.getUsername())) {
             throw new DuplicateMemberException("이미 가입되어 있는 유저입니다.");
         }
         
@@ -48,25 +60,86 @@ public class UserService {
                 .activated(true)
                 .build();
 
-        return UserDto.from(userRepository.save(user));
+        UserDto saved = UserDto.from(userRepository.save(user));
+        userCache.evict(user.getUsername());	// 가입 전에 조회된 기록이 남아있지 않도록 무효화
+        return saved;
     }
     
     //////////////////////////////////////////////////
     /* 권한 검증 부분 */
     
-    @Transactional(readOnly = true)
-	// username을 기준으로 User 이름과 권한을 반환
+	// username을 기준으로 User 이름과 권한을 반환 (캐시에 없을 때만 DB 조회)
     public UserDto getUserWithAuthorities(String username) {
-        return UserDto.from(userRepository.findOneWithAuthoritiesByUsername(username).orElse(null));
+        return UserDto.from(userCache.get(username));
     }
 
-    @Transactional(readOnly = true)
-	//현재 SecurityContext에 저장된 User 이름과 권한을 반환.
+	//현재 SecurityContext에 저장된 User 이름과 권한을 반환. (캐시에 없을 때만 DB 조회)
     public UserDto getMyUserWithAuthorities() {
         return UserDto.from(
                 SecurityUtil.getCurrentUsername()
-                        .flatMap(userRepository::findOneWithAuthoritiesByUsername)
+                        .map(userCache::get)
                         .orElseThrow(() -> new NotFoundMemberException("Member not found"))
         );
     }
+
+    @Transactional(readOnly = true)
+    // 관리자용 유저 목록. user_id 기준 keyset 페이지이고, prefix가 있으면 username 앞부분으로 검색 (username 기준 keyset 페이지)
+    public UserPageDto getUsers(long after, String afterUsername, String prefix, int size) {
+        boolean byPrefix = prefix != null && !prefix.isEmpty();
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<UserSummaryDto> users = byPrefix
+                ? userRepository.findSummariesByUsernamePrefixAfter(escapeLike(prefix) + "%",
+                        afterUsername != null ? afterUsername : "", limit)
+                : userRepository.findSummariesAfter(after, limit);
+
+        Long nextCursor = null;
+        String nextUsername = null;
+        if (users.size() > size) {
+            users = users.subList(0, size);
+            UserSummaryDto last = users.get(size - 1);
+            if (byPrefix) {
+                nextUsername = last.getUsername();
+            } else {
+                nextCursor = last.getUserId();
+            }
+        }
+
+        if (!users.isEmpty()) {
+            Map<Long, UserSummaryDto> byId = users.stream()
+                    .collect(Collectors.toMap(UserSummaryDto::getUserId, Function.identity()));
+            for (Object[] row : userRepository.findAuthorityNamesByUserIds(byId.keySet())) {
+                byId.get((Long) row[0]).getAuthorities().add((String) row[1]);
+            }
+        }
+
+        return UserPageDto.builder()
+                .users(users)
+                .nextCursor(nextCursor)
+                .nextUsername(nextUsername)
+                .build();
+    }
+
+    // like 검색에서 사용자가 입력한 %, _ 를 문자 그대로 비교
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Transactional
+    // 계정 활성화 상태 변경. 비활성화하면 이미 발급된 토큰도 모든 노드에서 바로 폐기한다
+    public UserDto setActivated(String username, boolean activated) {
+        User user = userRepository.findOneWithAuthoritiesByUsername(username)
+                .orElseThrow(() -> new NotFoundMemberException("Member not found"));
+        user.setActivated(activated);
+        if (!activated) {
+            tokenRevocationService.revokeUser(username);
+        }
+        userCache.evict(username);	// 커밋 후 모든 노드의 캐시에서 제거
+        return UserDto.from(user);
+    }
+
+    // 권한이 바뀌는 등 유저 정보가 변경되었을 때 캐시를 무효화
+    public void evictUserCache(String username) {
+        userCache.evict(username);
+    }
 }
@@ -0,0 +1,141 @@
+package com.inhwan.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/* 권한 이름과 토큰의 auth claim 문자열(또는 권한 bitmask)을 미리 만들어둔 불변 GrantedAuthority 객체로 바꿔주는 유틸 클래스 */
+public final class AuthorityRegistry {
+
+	// 서명된 토큰에서만 들어오는 값이지만 메모리가 무한히 늘어나지 않도록 등록 개수를 제한
+	private static final int MAX_ENTRIES = 256;
+
+	private static final ConcurrentMap<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, List<GrantedAuthority>> CLAIMS = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<Long, List<GrantedAuthority>> MASKS = new ConcurrentHashMap<>();
+
+	/*
+	 * 토큰의 권한 bitmask에서 각 권한이 차지하는 bit 위치 (authority 테이블의 권한 목록)
+	 * 이미 발급된 토큰의 의미가 바뀌지 않도록 순서는 바꾸지 않고, 권한이 추가되면 뒤에만 붙인다. 최대 63개.
+	 */
+	private static final List<String> ROLE_BITS = List.of("ROLE_USER", "ROLE_ADMIN");
+	private static final Map<String, Integer> ROLE_INDEX = new HashMap<>();
+
+	static {
+		for (int i = 0; i < ROLE_BITS.size(); i++) {
+			ROLE_INDEX.put(ROLE_BITS.get(i), i);
+		}
+
+		// data.sql에 있는 권한과 그 조합은 미리 등록
+		resolve("ROLE_USER");
+		resolve("ROLE_ADMIN");
+		resolve("ROLE_USER,ROLE_ADMIN");
+		resolve("ROLE_ADMIN,ROLE_USER");
+	}
+
+	private AuthorityRegistry() {
+	}
+
+	// 권한 이름에 해당하는 공유 GrantedAuthority 객체를 리턴
+	public static GrantedAuthority authority(String authorityName) {
+		GrantedAuthority authority = AUTHORITIES.get(authorityName);
+		if (authority != null) {
+			return authority;
+		}
+
+		authority = new SimpleGrantedAuthority(authorityName);
+		if (AUTHORITIES.size() < MAX_ENTRIES) {
+			GrantedAuthority previous = AUTHORITIES.putIfAbsent(authorityName, authority);
+			return previous != null ? previous : authority;
+		}
+		return authority;
+	}
+
+	// "ROLE_USER,ROLE_ADMIN" 형태의 claim 값에 해당하는 공유 불변 리스트를 리턴
+	public static List<GrantedAuthority> resolve(String claim) {
+		if (claim == null) {
+			return Collections.emptyList();
+		}
+
+		List<GrantedAuthority> authorities = CLAIMS.get(claim);
+		if (authorities != null) {
+			return authorities;
+		}
+
+		authorities = decode(claim);
+		if (CLAIMS.size() < MAX_ENTRIES) {
+			List<GrantedAuthority> previous = CLAIMS.putIfAbsent(claim, authorities);
+			return previous != null ? previous : authorities;
+		}
+		return authorities;
+	}
+
+	// 처음 보는 claim 값만 정규식 없이 ',' 기준으로 잘라서 만든다
+	private static List<GrantedAuthority> decode(String claim) {
+		if (claim.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<GrantedAuthority> authorities = new ArrayList<>(2);
+		int start = 0;
+		while (start <= claim.length()) {
+			int end = claim.indexOf(',', start);
+			if (end < 0) {
+				end = claim.length();
+			}
+			if (end > start) {
+				authorities.add(authority(claim.substring(start, end)));
+			}
+			start = end + 1;
+		}
+		return Collections.unmodifiableList(authorities);
+	}
+
+	// 권한 이름의 bit 위치, bit가 없는 권한이면 -1
+	public static int bitOf(String authorityName) {
+		Integer index = ROLE_INDEX.get(authorityName);
+		return index != null ? index : -1;
+	}
+
+	// 권한 목록을 bitmask로 바꾼다. bit가 없는 권한이 하나라도 있으면 -1 (이름 claim을 사용해야 함)
+	public static long mask(Collection<? extends GrantedAuthority> authorities) {
+		long mask = 0;
+		for (GrantedAuthority authority : authorities) {
+			int bit = bitOf(authority.getAuthority());
+			if (bit < 0) {
+				return -1;
+			}
+			mask |= 1L << bit;
+		}
+		return mask;
+	}
+
+	// bitmask에 해당하는 공유 불변 리스트를 리턴 (bit 순서대로)
+	public static List<GrantedAuthority> resolveMask(long mask) {
+		List<GrantedAuthority> authorities = MASKS.get(mask);
+		if (authorities != null) {
+			return authorities;
+		}
+
+		List<GrantedAuthority> decoded = new ArrayList<>(Long.bitCount(mask));
+		for (int bit = 0; bit < ROLE_BITS.size(); bit++) {
+			if ((mask & (1L << bit)) != 0) {
+				decoded.add(authority(ROLE_BITS.get(bit)));
+			}
+		}
+		authorities = Collections.unmodifiableList(decoded);
+		if (MASKS.size() < MAX_ENTRIES) {
+			List<GrantedAuthority> previous = MASKS.putIfAbsent(mask, authorities);
+			return previous != null ? previous : authorities;
+		}
+		return authorities;
+	}
+}
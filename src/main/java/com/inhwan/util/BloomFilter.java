@@ -0,0 +1,70 @@
+package com.inhwan.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/* 문자열 키를 위한 고정 크기 Bloom filter. 조회는 lock 없이, 추가는 CAS로 비트를 세운다 */
+public final class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final int bitCount;
+	private final int hashCount;
+
+	// expectedEntries 개를 넣었을 때 오탐률이 falsePositiveRate 가 되도록 크기를 정한다
+	public BloomFilter(int expectedEntries, double falsePositiveRate) {
+		int entries = Math.max(1, expectedEntries);
+		long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+		this.bits = new AtomicLongArray((bitCount + 63) / 64);
+	}
+
+	public void put(String key) {
+		long hash = hash(key);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 0; i < hashCount; i++) {
+			int index = Math.floorMod(h1 + i * h2, bitCount);
+			long mask = 1L << index;
+			int word = index >>> 6;
+			long current;
+			while (((current = bits.get(word)) & mask) == 0) {
+				if (bits.compareAndSet(word, current, current | mask)) {
+					break;
+				}
+			}
+		}
+	}
+
+	// false 이면 확실히 없음, true 이면 있을 수도 있음
+	public boolean mightContain(String key) {
+		long hash = hash(key);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 0; i < hashCount; i++) {
+			int index = Math.floorMod(h1 + i * h2, bitCount);
+			if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public long sizeInBytes() {
+		return (long) bits.length() * Long.BYTES;
+	}
+
+	// 문자열을 64bit로 섞는 해시 (FNV-1a 후 murmur3 finalizer)
+	private static long hash(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb93fe53ceb53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
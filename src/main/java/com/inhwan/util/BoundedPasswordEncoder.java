@@ -0,0 +1,148 @@
+package com.inhwan.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.inhwan.exception.PasswordHashingRejectedException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/*
+ * BCrypt 해싱과 검증을 전용 스레드 풀에서 수행하는 PasswordEncoder
+ * 풀과 대기 큐가 가득 차면 바로 PasswordHashingRejectedException(503)을 던져서 서블릿 스레드가 BCrypt 대기로 묶이지 않게 한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+	private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+	private final BCryptPasswordEncoder delegate;
+	private final int strength;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+
+	public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long timeoutMillis) {
+		this(strength, threads, queueCapacity, timeoutMillis, new CompositeMeterRegistry());	// registry가 없으면 기록하지 않음
+	}
+
+	public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long timeoutMillis, MeterRegistry meterRegistry) {
+		this.delegate = new BCryptPasswordEncoder(strength);
+		this.strength = strength;
+		this.timeoutMillis = timeoutMillis;
+		// 풀에서 대기한 시간은 제외한 BCrypt 자체 시간 (대기는 password.hashing 풀 metrics로 확인)
+		this.encodeTimer = Timer.builder("password.hashing.duration")
+				.description("BCrypt 해싱, 검증에 걸린 시간")
+				.tag("operation", "encode")
+				.register(meterRegistry);
+		this.matchesTimer = Timer.builder("password.hashing.duration")
+				.description("BCrypt 해싱, 검증에 걸린 시간")
+				.tag("operation", "matches")
+				.register(meterRegistry);
+
+		AtomicInteger sequence = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> {
+					Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+	}
+
+	// 저장된 해시의 cost가 설정된 cost와 다르면 로그인할 때 다시 해싱한다 (올리는 경우와 내리는 경우 모두)
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (encodedPassword == null) {
+			return false;
+		}
+		Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+		return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+	}
+
+	public int getStrength() {
+		return strength;
+	}
+
+	public ThreadPoolExecutor getExecutor() {
+		return executor;
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private <T> T execute(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			throw new PasswordHashingRejectedException("로그인 요청이 많아 잠시 후 다시 시도해주세요.", e);
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new PasswordHashingRejectedException("비밀번호 처리 시간이 초과되었습니다.", e);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PasswordHashingRejectedException("비밀번호 처리가 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	// 목표 시간 안에 끝나는 가장 큰 BCrypt cost를 측정해서 고른다 (cost가 1 오를 때마다 시간은 2배)
+	public static int calibrate(long targetMillis) {
+		int baseline = 8;
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(baseline);
+		String encoded = encoder.encode("calibration");
+		for (int i = 0; i < 3; i++) {	// JIT 워밍업
+			encoder.matches("calibration", encoded);
+		}
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			long start = System.nanoTime();
+			encoder.matches("calibration", encoded);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		double baselineMillis = Math.max(0.01, best / 1_000_000.0);
+		int cost = baseline + (int) Math.floor(Math.log(targetMillis / baselineMillis) / Math.log(2));
+		return Math.max(4, Math.min(16, cost));
+	}
+}
@@ -0,0 +1,270 @@
+package com.inhwan.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.EvaluationException;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.access.expression.SecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.inhwan.jwt.JwtAuthenticationToken;
+
+/*
+ * @PreAuthorize 표현식을 파싱하는 ExpressionParser
+ * hasRole, hasAnyRole, hasAuthority, hasAnyAuthority 하나로만 된 표현식은 시작할 때 권한 bitmask로 바꿔두고
+ * 호출마다 SpEL 평가와 권한 목록 순회 대신 bit 연산 한 번으로 검사한다.
+ * and/or 가 섞이거나 bit가 없는 권한을 쓰는 표현식은 그대로 SpEL로 파싱한다.
+ */
+public final class RoleExpressionParser implements ExpressionParser {
+
+	private static final Pattern ROLE_CHECK = Pattern.compile(
+			"\\s*(hasRole|hasAnyRole|hasAuthority|hasAnyAuthority)\\s*\\(\\s*('[^']*'(?:\\s*,\\s*'[^']*')*)\\s*\\)\\s*");
+	private static final Pattern QUOTED = Pattern.compile("'([^']*)'");
+
+	private final ExpressionParser delegate;
+	private final String rolePrefix;
+
+	public RoleExpressionParser(String rolePrefix) {
+		this(new SpelExpressionParser(), rolePrefix);
+	}
+
+	public RoleExpressionParser(ExpressionParser delegate, String rolePrefix) {
+		this.delegate = delegate;
+		this.rolePrefix = rolePrefix != null ? rolePrefix : "";
+	}
+
+	@Override
+	public Expression parseExpression(String expressionString) throws ParseException {
+		Expression compiled = compile(expressionString);
+		return compiled != null ? compiled : delegate.parseExpression(expressionString);
+	}
+
+	@Override
+	public Expression parseExpression(String expressionString, ParserContext context) throws ParseException {
+		if (context == null || !context.isTemplate()) {
+			return parseExpression(expressionString);
+		}
+		return delegate.parseExpression(expressionString, context);
+	}
+
+	// 권한 검사 하나로만 된 표현식이면 RoleMaskExpression, 아니면 null
+	RoleMaskExpression compile(String expressionString) {
+		Matcher matcher = ROLE_CHECK.matcher(expressionString);
+		if (!matcher.matches()) {
+			return null;
+		}
+
+		String function = matcher.group(1);
+		boolean role = function.endsWith("Role");
+		boolean any = function.startsWith("hasAny");
+
+		List<String> names = new ArrayList<>();
+		Matcher quoted = QUOTED.matcher(matcher.group(2));
+		while (quoted.find()) {
+			String name = quoted.group(1);
+			names.add(role && !name.startsWith(rolePrefix) ? rolePrefix + name : name);
+		}
+		if (!any && names.size() != 1) {
+			return null;	// hasRole('A','B') 는 SpEL에서 오류가 나도록 그대로 넘긴다
+		}
+
+		long required = 0;
+		for (String name : names) {
+			int bit = AuthorityRegistry.bitOf(name);
+			if (bit < 0) {
+				return null;	// bit가 없는 권한은 이름으로 비교해야 하므로 SpEL 사용
+			}
+			required |= 1L << bit;
+		}
+		return new RoleMaskExpression(expressionString, required, new LinkedHashSet<>(names));
+	}
+
+	/* 미리 계산한 권한 bitmask로 Authentication을 검사하는 읽기 전용 Expression */
+	static final class RoleMaskExpression implements Expression {
+
+		private final String expressionString;
+		private final long requiredMask;
+		private final Set<String> authorityNames;	// 권한 목록에 bit가 없는 권한이 섞여 있을 때 이름으로 비교
+
+		private RoleMaskExpression(String expressionString, long requiredMask, Set<String> authorityNames) {
+			this.expressionString = expressionString;
+			this.requiredMask = requiredMask;
+			this.authorityNames = authorityNames;
+		}
+
+		boolean matches(Authentication authentication) {
+			if (authentication == null) {
+				return false;
+			}
+
+			long mask = authentication instanceof JwtAuthenticationToken jwtAuthentication
+					? jwtAuthentication.getRoleMask()
+					: AuthorityRegistry.mask(authentication.getAuthorities());
+			if (mask >= 0) {
+				return (mask & requiredMask) != 0;
+			}
+
+			for (GrantedAuthority authority : authentication.getAuthorities()) {
+				if (authorityNames.contains(authority.getAuthority())) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean evaluate(EvaluationContext context, Object rootObject) {
+			Object root = rootObject != null ? rootObject
+					: context != null ? context.getRootObject().getValue() : null;
+			if (root instanceof SecurityExpressionOperations operations) {
+				return matches(operations.getAuthentication());
+			}
+			if (root instanceof Authentication authentication) {
+				return matches(authentication);
+			}
+			throw new EvaluationException(expressionString, "권한 검사를 할 수 없는 root 객체입니다: " + root);
+		}
+
+		private <T> T convert(boolean value, Class<T> desiredResultType) {
+			if (desiredResultType == null || desiredResultType.isAssignableFrom(Boolean.class)
+					|| desiredResultType == boolean.class) {
+				@SuppressWarnings("unchecked")
+				T result = (T) Boolean.valueOf(value);
+				return result;
+			}
+			throw new EvaluationException(expressionString, "Boolean으로만 평가할 수 있습니다: " + desiredResultType);
+		}
+
+		@Override
+		public String getExpressionString() {
+			return expressionString;
+		}
+
+		@Override
+		public Object getValue() throws EvaluationException {
+			return evaluate(null, null);
+		}
+
+		@Override
+		public <T> T getValue(Class<T> desiredResultType) throws EvaluationException {
+			return convert(evaluate(null, null), desiredResultType);
+		}
+
+		@Override
+		public Object getValue(Object rootObject) throws EvaluationException {
+			return evaluate(null, rootObject);
+		}
+
+		@Override
+		public <T> T getValue(Object rootObject, Class<T> desiredResultType) throws EvaluationException {
+			return convert(evaluate(null, rootObject), desiredResultType);
+		}
+
+		@Override
+		public Object getValue(EvaluationContext context) throws EvaluationException {
+			return evaluate(context, null);
+		}
+
+		@Override
+		public Object getValue(EvaluationContext context, Object rootObject) throws EvaluationException {
+			return evaluate(context, rootObject);
+		}
+
+		@Override
+		public <T> T getValue(EvaluationContext context, Class<T> desiredResultType) throws EvaluationException {
+			return convert(evaluate(context, null), desiredResultType);
+		}
+
+		@Override
+		public <T> T getValue(EvaluationContext context, Object rootObject, Class<T> desiredResultType)
+				throws EvaluationException {
+			return convert(evaluate(context, rootObject), desiredResultType);
+		}
+
+		@Override
+		public Class<?> getValueType() {
+			return Boolean.class;
+		}
+
+		@Override
+		public Class<?> getValueType(Object rootObject) {
+			return Boolean.class;
+		}
+
+		@Override
+		public Class<?> getValueType(EvaluationContext context) {
+			return Boolean.class;
+		}
+
+		@Override
+		public Class<?> getValueType(EvaluationContext context, Object rootObject) {
+			return Boolean.class;
+		}
+
+		@Override
+		public TypeDescriptor getValueTypeDescriptor() {
+			return TypeDescriptor.valueOf(Boolean.class);
+		}
+
+		@Override
+		public TypeDescriptor getValueTypeDescriptor(Object rootObject) {
+			return TypeDescriptor.valueOf(Boolean.class);
+		}
+
+		@Override
+		public TypeDescriptor getValueTypeDescriptor(EvaluationContext context) {
+			return TypeDescriptor.valueOf(Boolean.class);
+		}
+
+		@Override
+		public TypeDescriptor getValueTypeDescriptor(EvaluationContext context, Object rootObject) {
+			return TypeDescriptor.valueOf(Boolean.class);
+		}
+
+		@Override
+		public boolean isWritable(Object rootObject) {
+			return false;
+		}
+
+		@Override
+		public boolean isWritable(EvaluationContext context) {
+			return false;
+		}
+
+		@Override
+		public boolean isWritable(EvaluationContext context, Object rootObject) {
+			return false;
+		}
+
+		@Override
+		public void setValue(Object rootObject, Object value) throws EvaluationException {
+			throw new EvaluationException(expressionString, "권한 검사 표현식에는 값을 쓸 수 없습니다.");
+		}
+
+		@Override
+		public void setValue(EvaluationContext context, Object value) throws EvaluationException {
+			throw new EvaluationException(expressionString, "권한 검사 표현식에는 값을 쓸 수 없습니다.");
+		}
+
+		@Override
+		public void setValue(EvaluationContext context, Object rootObject, Object value) throws EvaluationException {
+			throw new EvaluationException(expressionString, "권한 검사 표현식에는 값을 쓸 수 없습니다.");
+		}
+
+		@Override
+		public String toString() {
+			return expressionString;
+		}
+	}
+}
@@ -8,6 +8,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.inhwan.jwt.JwtAuthenticationToken;
+
 /* SecurityContext에서 전역으로 유저 정보를 제공하는 유틸 클래스 */
 public class SecurityUtil {
 
@@ -27,6 +29,11 @@ public class SecurityUtil {
 			return Optional.empty();
 		}
 
+		// JWT 인증은 토큰의 subject를 바로 리턴 (principal, 권한 목록을 만들지 않음)
+		if (authentication instanceof JwtAuthenticationToken) {
+			return Optional.ofNullable(authentication.getName());
+		}
+
 		String username = null;
 		if (authentication.getPrincipal() instanceof UserDetails) {
 			UserDetails springSecurityUser = (UserDetails) authentication.getPrincipal();
@@ -1,9 +1,9 @@
-insert into "user" (username, password, nickname, activated) values ('admin', '$2a$08$lDnHPz7eUkSi6ao14Twuau08mzhWrL4kyZGGU5xfiGALO/Vxd5DOi', 'admin', 1);
-insert into "user" (username, password, nickname, activated) values ('user', '$2a$08$UkVvwpULis18S19S5pZFn.YHPZt3oaqHZnDwqbCW9pft6uFtkXKDC', 'user', 1);
+insert into "user" (user_id, username, password, nickname, activated) values (NEXT VALUE FOR user_seq, 'admin', '$2a$08$lDnHPz7eUkSi6ao14Twuau08mzhWrL4kyZGGU5xfiGALO/Vxd5DOi', 'admin', 1);
+insert into "user" (user_id, username, password, nickname, activated) values (NEXT VALUE FOR user_seq, 'user', '$2a$08$UkVvwpULis18S19S5pZFn.YHPZt3oaqHZnDwqbCW9pft6uFtkXKDC', 'user', 1);
 
 insert into authority (authority_name) values ('ROLE_USER');
 insert into authority (authority_name) values ('ROLE_ADMIN');
 
-insert into user_authority (user_id, authority_name) values (1, 'ROLE_USER');
-insert into user_authority (user_id, authority_name) values (1, 'ROLE_ADMIN');
-insert into user_authority (user_id, authority_name) values (2, 'ROLE_USER');
\ No newline at end of file
+insert into user_authority (user_id, authority_name) values ((select user_id from "user" where username = 'admin'), 'ROLE_USER');
+insert into user_authority (user_id, authority_name) values ((select user_id from "user" where username = 'admin'), 'ROLE_ADMIN');
+insert into user_authority (user_id, authority_name) values ((select user_id from "user" where username = 'user'), 'ROLE_USER');
@@ -0,0 +1,60 @@
+-- persistent 프로필(H2 파일 DB)의 스키마. 엔티티 매핑을 바꾸면 새 버전 파일을 추가한다 (이미 적용된 파일은 수정하지 않음)
+
+-- User id는 Hibernate가 50개씩 미리 할당받아 사용 (@SequenceGenerator allocationSize와 같아야 함)
+create sequence user_seq start with 1 increment by 50;
+
+create table "user" (
+    user_id bigint not null,
+    username varchar(50),
+    password varchar(100),
+    nickname varchar(50),
+    activated boolean not null,
+    primary key (user_id)
+);
+
+-- 로그인, 토큰 발급 때마다 username으로 조회
+create unique index idx_user_username on "user" (username);
+
+create table authority (
+    authority_name varchar(50) not null,
+    primary key (authority_name)
+);
+
+create table user_authority (
+    user_id bigint not null,
+    authority_name varchar(50) not null,
+    primary key (user_id, authority_name),
+    constraint fk_user_authority_user foreign key (user_id) references "user" (user_id),
+    constraint fk_user_authority_authority foreign key (authority_name) references authority (authority_name)
+);
+
+-- 유저의 권한 조회 (findOneWithAuthoritiesByUsername, 유저 목록의 권한 일괄 조회)
+create index idx_user_authority_user_id on user_authority (user_id);
+
+create table refresh_token (
+    refresh_token_id bigint generated by default as identity,
+    token_hash varchar(64) not null,
+    family_id varchar(36) not null,
+    user_id bigint not null,
+    expires_at timestamp(6) with time zone not null,
+    used boolean not null,
+    revoked boolean not null,
+    primary key (refresh_token_id),
+    constraint fk_refresh_token_user foreign key (user_id) references "user" (user_id)
+);
+
+create unique index idx_refresh_token_hash on refresh_token (token_hash);
+create index idx_refresh_token_family on refresh_token (family_id);
+create index idx_refresh_token_expires_at on refresh_token (expires_at);
+
+create table revoked_token (
+    revoked_token_id bigint generated by default as identity,
+    jti varchar(36),
+    username varchar(50),
+    revoked_at timestamp(6) with time zone not null,
+    expires_at timestamp(6) with time zone not null,
+    primary key (revoked_token_id)
+);
+
+create index idx_revoked_token_revoked_at on revoked_token (revoked_at);
+create index idx_revoked_token_expires_at on revoked_token (expires_at);
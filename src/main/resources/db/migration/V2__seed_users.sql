@@ -0,0 +1,10 @@
+-- data.sql과 같은 기본 권한, 계정 (처음 만들어질 때 한 번만 적용)
+insert into authority (authority_name) values ('ROLE_USER');
+insert into authority (authority_name) values ('ROLE_ADMIN');
+
+insert into "user" (user_id, username, password, nickname, activated) values (NEXT VALUE FOR user_seq, 'admin', '$2a$08$lDnHPz7eUkSi6ao14Twuau08mzhWrL4kyZGGU5xfiGALO/Vxd5DOi', 'admin', true);
+insert into "user" (user_id, username, password, nickname, activated) values (NEXT VALUE FOR user_seq, 'user', '$2a$08$UkVvwpULis18S19S5pZFn.YHPZt3oaqHZnDwqbCW9pft6uFtkXKDC', 'user', true);
+
+insert into user_authority (user_id, authority_name) values ((select user_id from "user" where username = 'admin'), 'ROLE_USER');
+insert into user_authority (user_id, authority_name) values ((select user_id from "user" where username = 'admin'), 'ROLE_ADMIN');
+insert into user_authority (user_id, authority_name) values ((select user_id from "user" where username = 'user'), 'ROLE_USER');
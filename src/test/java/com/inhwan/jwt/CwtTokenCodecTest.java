@@ -0,0 +1,184 @@
+package com.inhwan.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.inhwan.util.AuthorityRegistry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// CWT(COSE_Mac0) 발급과 검증, HMAC이 아닌 서명 키 처리
+class CwtTokenCodecTest {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(
+			"cwt-token-codec-test-secret-cwt-token-codec-test-secret-0123456789".getBytes());
+
+	private final HmacSigningKeyStrategy signingKeyStrategy = new HmacSigningKeyStrategy(SECRET, "hs512-test");
+	private final CwtTokenCodec codec = new CwtTokenCodec(signingKeyStrategy);
+
+	@Test
+	void roundTripKeepsClaims() {
+		Claims claims = claims(System.currentTimeMillis(), 60_000);
+		claims.put(TokenProvider.AUTHORITIES_KEY, "ROLE_USER,ROLE_CUSTOM");
+
+		String token = codec.encode(claims, signingKeyStrategy.getActiveKey());
+		Claims decoded = codec.decode(token);
+
+		assertThat(token).startsWith(CwtTokenCodec.PREFIX);
+		assertThat(decoded.getSubject()).isEqualTo("user");
+		assertThat(decoded.getId()).isEqualTo(claims.getId());
+		assertThat(decoded.getExpiration().getTime()).isEqualTo(claims.getExpiration().getTime() / 1000 * 1000);
+		assertThat(decoded.get(TokenProvider.ISSUED_AT_MILLIS_KEY, Long.class))
+				.isEqualTo(claims.get(TokenProvider.ISSUED_AT_MILLIS_KEY, Long.class));
+		assertThat(TokenProvider.issuedAt(decoded)).isEqualTo(TokenProvider.issuedAt(claims));
+		assertThat(decoded.get(TokenProvider.AUTHORITIES_KEY, String.class)).isEqualTo("ROLE_USER,ROLE_CUSTOM");
+	}
+
+	@Test
+	void roleMaskClaimRoundTrip() {
+		List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+		long roleMask = AuthorityRegistry.mask(authorities);
+		Claims claims = claims(System.currentTimeMillis(), 60_000);
+		claims.put(TokenProvider.ROLES_KEY, roleMask);
+
+		Claims decoded = codec.decode(codec.encode(claims, signingKeyStrategy.getActiveKey()));
+
+		// "r" claim만 있고 권한 이름("auth")은 넣지 않는다
+		assertThat(decoded.get(TokenProvider.ROLES_KEY, Long.class)).isEqualTo(roleMask);
+		assertThat(decoded).doesNotContainKey(TokenProvider.AUTHORITIES_KEY);
+		assertThat(TokenProvider.resolveAuthorities(decoded))
+				.extracting(GrantedAuthority::getAuthority)
+				.containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+	}
+
+	@Test
+	void tamperedTagIsRejected() {
+		String token = codec.encode(claims(System.currentTimeMillis(), 60_000), signingKeyStrategy.getActiveKey());
+		byte[] bytes = Base64.getUrlDecoder().decode(token.substring(CwtTokenCodec.PREFIX.length()));
+		bytes[bytes.length - 1] ^= 1;	// tag는 COSE_Mac0 배열의 마지막 byte string
+		String tampered = CwtTokenCodec.PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+		assertThatThrownBy(() -> codec.decode(tampered)).isInstanceOf(SignatureException.class);
+	}
+
+	@Test
+	void unknownKeyIdIsRejected() {
+		HmacSigningKeyStrategy otherKid = new HmacSigningKeyStrategy(SECRET, "hs512-other");
+		String token = codec.encode(claims(System.currentTimeMillis(), 60_000), otherKid.getActiveKey());
+
+		assertThatThrownBy(() -> codec.decode(token)).isInstanceOf(SignatureException.class);
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+		String token = codec.encode(claims(System.currentTimeMillis() - 120_000, 60_000), signingKeyStrategy.getActiveKey());
+
+		assertThatThrownBy(() -> codec.decode(token)).isInstanceOf(ExpiredJwtException.class);
+	}
+
+	@Test
+	void nonHmacKeyCannotEncode() throws Exception {
+		EcSigningKeyStrategy ec = new EcSigningKeyStrategy(SignatureAlgorithm.ES256, "es256-test", ecKeyPair());
+
+		assertThatThrownBy(() -> codec.encode(claims(System.currentTimeMillis(), 60_000), ec.getActiveKey()))
+				.isInstanceOf(UnsupportedJwtException.class);
+	}
+
+	@Test
+	void providerIssuesJwsWhenActiveKeyIsNoLongerHmac() throws Exception {
+		SwitchingSigningKeyStrategy switching = new SwitchingSigningKeyStrategy(signingKeyStrategy);
+		TokenProvider tokenProvider = new TokenProvider(switching, 60, TokenFormat.CWT,
+				new TokenAuthenticationCache(false, 0, 0, new SimpleMeterRegistry()),
+				new TokenRevocationList(1_000, 0.01, new SimpleMeterRegistry()),
+				new TokenMetrics(new SimpleMeterRegistry()));
+		tokenProvider.afterPropertiesSet();
+		List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+		assertThat(tokenProvider.createToken("user", authorities)).startsWith(CwtTokenCodec.PREFIX);
+
+		// 키 묶음 파일이 EC 키로 바뀐 상황: 로그인이 실패하지 않고 JWS로 발급된다
+		switching.delegate = new EcSigningKeyStrategy(SignatureAlgorithm.ES256, "es256-test", ecKeyPair());
+		String token = tokenProvider.createToken("user", authorities);
+
+		assertThat(token).doesNotStartWith(CwtTokenCodec.PREFIX);
+		assertThat(tokenProvider.validateToken(token)).isTrue();
+		assertThat(tokenProvider.getAuthentication(token).getAuthorities())
+				.extracting(GrantedAuthority::getAuthority)
+				.containsExactly("ROLE_USER");
+	}
+
+	private static Claims claims(long issuedAtMillis, long validityMillis) {
+		Claims claims = Jwts.claims()
+				.setId(UUID.randomUUID().toString())
+				.setIssuedAt(new Date(issuedAtMillis))
+				.setSubject("user");
+		claims.put(TokenProvider.ISSUED_AT_MILLIS_KEY, issuedAtMillis);
+		claims.setExpiration(new Date(issuedAtMillis + validityMillis));
+		return claims;
+	}
+
+	private static KeyPair ecKeyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(256);
+		return generator.generateKeyPair();
+	}
+
+	// 키 묶음 파일을 다시 읽은 것처럼 active 키를 바꿀 수 있는 전략
+	private static final class SwitchingSigningKeyStrategy implements SigningKeyStrategy {
+
+		private volatile SigningKeyStrategy delegate;
+
+		private SwitchingSigningKeyStrategy(SigningKeyStrategy delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public SignatureAlgorithm getAlgorithm() {
+			return delegate.getAlgorithm();
+		}
+
+		@Override
+		public String getKeyId() {
+			return delegate.getKeyId();
+		}
+
+		@Override
+		public Key getSigningKey() {
+			return delegate.getSigningKey();
+		}
+
+		@Override
+		public SigningKey getActiveKey() {
+			return delegate.getActiveKey();
+		}
+
+		@Override
+		public Key getVerificationKey(String keyId) {
+			return delegate.getVerificationKey(keyId);
+		}
+
+		@Override
+		public List<Map<String, Object>> getPublicJwks() {
+			return delegate.getPublicJwks();
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package com.inhwan.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jsonwebtoken.security.SignatureException;
+
+// 키 묶음 파일 다시 읽기, 파일에서 빠진 키와 retired-at 키의 보관 기간, 보관 기간이 지난 키 정리
+class KeyRingSigningKeyStrategyTest {
+
+	private static final Duration RETENTION = Duration.ofHours(1);
+	private static final Instant START = Instant.parse("2026-10-01T00:00:00Z");
+
+	@TempDir
+	Path directory;
+
+	private final MutableClock clock = new MutableClock(START);
+	private final List<KeyRingSigningKeyStrategy> strategies = new ArrayList<>();
+	private Path file;
+	private int modifications;
+
+	@AfterEach
+	void tearDown() {
+		strategies.forEach(KeyRingSigningKeyStrategy::destroy);
+	}
+
+	@Test
+	void reloadSwitchesActiveKeyAndKeepsOldKeyForVerification() throws IOException {
+		write("k1", key("k1", null));
+		KeyRingSigningKeyStrategy strategy = open();
+		assertThat(strategy.getActiveKey().getKeyId()).isEqualTo("k1");
+
+		write("k2", key("k1", null), key("k2", null));
+		strategy.reloadIfChanged();
+
+		assertThat(strategy.getActiveKey().getKeyId()).isEqualTo("k2");
+		assertThat(strategy.getKeyId()).isEqualTo("k2");
+		assertThat(strategy.getVerificationKey("k1")).isNotNull();
+		assertThat(strategy.getVerificationKey(null)).isEqualTo(strategy.getVerificationKey("k2"));
+	}
+
+	@Test
+	void keyRemovedFromFileIsKeptForRetentionThenPruned() throws IOException {
+		write("k2", key("k1", null), key("k2", null));
+		KeyRingSigningKeyStrategy strategy = open();
+
+		write("k2", key("k2", null));
+		strategy.reloadIfChanged();
+		assertThat(strategy.getVerificationKey("k1")).isNotNull();
+
+		clock.advance(RETENTION.minusSeconds(1));
+		strategy.reloadIfChanged();	// 파일은 그대로, 보관 기간 전
+		assertThat(strategy.getVerificationKey("k1")).isNotNull();
+
+		clock.advance(Duration.ofSeconds(1));
+		strategy.reloadIfChanged();
+		assertThatThrownBy(() -> strategy.getVerificationKey("k1")).isInstanceOf(SignatureException.class);
+	}
+
+	@Test
+	void retiredKeySurvivesRestartUntilRetentionPasses() throws IOException {
+		write("k2", key("k1", START.toString()), key("k2", null));
+
+		// 재시작해도 retired-at 부터 보관 기간 동안은 검증할 수 있다
+		clock.advance(RETENTION.minusSeconds(1));
+		assertThat(open().getVerificationKey("k1")).isNotNull();
+
+		clock.advance(Duration.ofSeconds(1));
+		KeyRingSigningKeyStrategy restarted = open();
+		assertThatThrownBy(() -> restarted.getVerificationKey("k1")).isInstanceOf(SignatureException.class);
+	}
+
+	@Test
+	void retiredKeyCannotBeActive() throws IOException {
+		write("k1", key("k1", START.toString()));
+
+		assertThatThrownBy(this::open).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void invalidFileKeepsPreviousKeys() throws IOException {
+		write("k1", key("k1", null));
+		KeyRingSigningKeyStrategy strategy = open();
+
+		write("missing", key("k1", null));	// active kid가 없는 파일
+		strategy.reloadIfChanged();
+
+		assertThat(strategy.getActiveKey().getKeyId()).isEqualTo("k1");
+	}
+
+	@Test
+	void activeKeySnapshotMatchesKeyIdAndAlgorithm() throws IOException {
+		write("k1", key("k1", null));
+		SigningKey activeKey = open().getActiveKey();
+
+		assertThat(activeKey.getKeyId()).isEqualTo("k1");
+		assertThat(activeKey.isHmac()).isTrue();
+		assertThat(activeKey.getKey()).isNotNull();
+	}
+
+	private KeyRingSigningKeyStrategy open() {
+		KeyRingSigningKeyStrategy strategy = new KeyRingSigningKeyStrategy(file, RETENTION, Duration.ofHours(1), clock);
+		strategies.add(strategy);
+		return strategy;
+	}
+
+	// 파일 수정 시각을 매번 다르게 해서 같은 초 안에 다시 써도 변경으로 인식되게 한다
+	private void write(String active, String... keys) throws IOException {
+		if (file == null) {
+			file = directory.resolve("key-ring.json");
+		}
+		String json = "{\"active\":\"" + active + "\",\"keys\":[" + String.join(",", keys) + "]}";
+		Files.writeString(file, json, StandardCharsets.UTF_8);
+		Files.setLastModifiedTime(file, FileTime.from(START.plusSeconds(++modifications)));
+	}
+
+	private static String key(String keyId, String retiredAt) {
+		byte[] secret = (keyId + "-secret-0123456789-0123456789-0123456789-0123456789-0123456789").getBytes(StandardCharsets.UTF_8);
+		return "{\"kid\":\"" + keyId + "\",\"alg\":\"HS512\",\"secret\":\"" + Base64.getEncoder().encodeToString(secret) + "\""
+				+ (retiredAt != null ? ",\"retired-at\":\"" + retiredAt + "\"" : "") + "}";
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.inhwan.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// GCRA 버킷 계산: capacity 만큼 몰아서 허용하고, 그 뒤로는 period / capacity 간격으로 하나씩 허용
+class CaffeineRateLimitStoreTest {
+
+	private static final long START = TimeUnit.SECONDS.toNanos(1_000);
+	private static final long INTERVAL = TimeUnit.SECONDS.toNanos(12);	// 60초에 5번
+
+	private final CaffeineRateLimitStore store = new CaffeineRateLimitStore(1000, 900, new SimpleMeterRegistry());
+	private final RateLimit limit = new RateLimit("test", 5, Duration.ofSeconds(60));
+
+	@Test
+	void fullBucketAllowsBurstOfCapacity() {
+		for (int i = 0; i < 5; i++) {
+			assertThat(store.tryConsume("key", limit, START)).isZero();
+		}
+		assertThat(store.tryConsume("key", limit, START)).isEqualTo(INTERVAL);
+	}
+
+	@Test
+	void rejectionDoesNotConsumeToken() {
+		for (int i = 0; i < 5; i++) {
+			store.tryConsume("key", limit, START);
+		}
+		// 거절된 요청은 TAT를 늘리지 않으므로 남은 시간은 시간이 지난 만큼만 줄어든다
+		assertThat(store.tryConsume("key", limit, START)).isEqualTo(INTERVAL);
+		assertThat(store.tryConsume("key", limit, START + TimeUnit.SECONDS.toNanos(2))).isEqualTo(INTERVAL - TimeUnit.SECONDS.toNanos(2));
+		assertThat(store.tryConsume("key", limit, START + INTERVAL)).isZero();
+		assertThat(store.tryConsume("key", limit, START + INTERVAL)).isEqualTo(INTERVAL);
+	}
+
+	@Test
+	void tokensRefillOneIntervalAtATime() {
+		for (int i = 0; i < 5; i++) {
+			store.tryConsume("key", limit, START);
+		}
+
+		long later = START + 3 * INTERVAL;
+		for (int i = 0; i < 3; i++) {
+			assertThat(store.tryConsume("key", limit, later)).isZero();
+		}
+		assertThat(store.tryConsume("key", limit, later)).isEqualTo(INTERVAL);
+	}
+
+	@Test
+	void idleBucketDoesNotGrowBeyondCapacity() {
+		store.tryConsume("key", limit, START);
+
+		long muchLater = START + TimeUnit.HOURS.toNanos(1);
+		for (int i = 0; i < 5; i++) {
+			assertThat(store.tryConsume("key", limit, muchLater)).isZero();
+		}
+		assertThat(store.tryConsume("key", limit, muchLater)).isGreaterThan(0);
+	}
+
+	@Test
+	void keysAndLimitsHaveSeparateBuckets() {
+		RateLimit otherLimit = new RateLimit("other", 1, Duration.ofSeconds(60));
+		for (int i = 0; i < 5; i++) {
+			store.tryConsume("a", limit, START);
+		}
+
+		assertThat(store.tryConsume("a", limit, START)).isGreaterThan(0);
+		assertThat(store.tryConsume("b", limit, START)).isZero();
+		assertThat(store.tryConsume("a", otherLimit, START)).isZero();
+		assertThat(store.tryConsume("a", otherLimit, START)).isEqualTo(TimeUnit.SECONDS.toNanos(60));
+	}
+
+	@Test
+	void retryAfterRoundsUpToWholeSeconds() {
+		assertThat(LoginRateLimiter.retryAfterSeconds(1)).isEqualTo(1);
+		assertThat(LoginRateLimiter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(12))).isEqualTo(12);
+		assertThat(LoginRateLimiter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(12) + 1)).isEqualTo(13);
+	}
+}
@@ -0,0 +1,134 @@
+package com.inhwan.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+
+// servlet 로그인 제한 필터의 429, 413 응답과 본문 전달
+class LoginRateLimitFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	// IP당 3번, username당 2번 (60초)
+	private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(
+			new CaffeineRateLimitStore(1000, 900, meterRegistry), true, 3, 60, 2, 60, meterRegistry);
+	private final LoginRateLimitFilter filter = new LoginRateLimitFilter(loginRateLimiter, new ObjectMapper());
+
+	@Test
+	void passesCachedBodyToController() throws Exception {
+		AtomicReference<String> body = new AtomicReference<>();
+		MockHttpServletResponse response = login("10.0.0.1", "{\"username\":\"user\",\"password\":\"password\"}",
+				(request, ignored) -> body.set(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(body.get()).isEqualTo("{\"username\":\"user\",\"password\":\"password\"}");
+	}
+
+	@Test
+	void cachedBodyCanBeReadWithReadListener() throws Exception {
+		AtomicReference<String> body = new AtomicReference<>();
+		login("10.0.0.1", "{\"username\":\"user\",\"password\":\"password\"}", (request, ignored) -> {
+			ServletInputStream inputStream = request.getInputStream();
+			ByteArrayOutputStream read = new ByteArrayOutputStream();
+			inputStream.setReadListener(new ReadListener() {
+				@Override
+				public void onDataAvailable() throws IOException {
+					while (inputStream.isReady() && !inputStream.isFinished()) {
+						read.write(inputStream.read());
+					}
+				}
+
+				@Override
+				public void onAllDataRead() {
+					body.set(read.toString(StandardCharsets.UTF_8));
+				}
+
+				@Override
+				public void onError(Throwable throwable) {
+					throw new AssertionError(throwable);
+				}
+			});
+		});
+
+		assertThat(body.get()).isEqualTo("{\"username\":\"user\",\"password\":\"password\"}");
+	}
+
+	@Test
+	void rejectsUsernameOverLimitIgnoringCase() throws Exception {
+		assertThat(login("10.0.0.2", credentials("victim")).getStatus()).isEqualTo(200);
+		assertThat(login("10.0.0.3", credentials("VICTIM")).getStatus()).isEqualTo(200);
+
+		MockHttpServletResponse response = login("10.0.0.4", credentials("Victim"));
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+		assertThat(response.getContentAsString()).contains("\"status\":429");
+	}
+
+	@Test
+	void rejectsIpOverLimitBeforeReadingBody() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			assertThat(login("10.0.0.5", credentials("user" + i)).getStatus()).isEqualTo(200);
+		}
+
+		MockHttpServletResponse response = login("10.0.0.5", credentials("other"));
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("20");
+	}
+
+	@Test
+	void rejectsLargeBody() throws Exception {
+		MockHttpServletResponse response = login("10.0.0.6", "{\"username\":\"" + "a".repeat(5000) + "\"}");
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+	}
+
+	@Test
+	void ignoresOtherRequests() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/authenticate");
+		request.setServletPath("/api/authenticate");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		for (int i = 0; i < 10; i++) {
+			filter.doFilter(request, response, (req, res) -> { });
+		}
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(meterRegistry.get("login.rate-limit.rejected").tag("limit", "ip").counter().count()).isZero();
+	}
+
+	private MockHttpServletResponse login(String ip, String body) throws IOException, ServletException {
+		return login(ip, body, (request, response) -> { });
+	}
+
+	private MockHttpServletResponse login(String ip, String body, FilterChain chain) throws IOException, ServletException {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/authenticate");
+		request.setServletPath("/api/authenticate");
+		request.setRemoteAddr(ip);
+		request.setContentType("application/json");
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+
+	private static String credentials(String username) {
+		return "{\"username\":\"" + username + "\",\"password\":\"password\"}";
+	}
+}
@@ -0,0 +1,106 @@
+package com.inhwan.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+// reactive 로그인 제한 필터의 429, 413 응답과 본문 전달
+class LoginRateLimitWebFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	// IP당 3번, username당 2번 (60초)
+	private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(
+			new CaffeineRateLimitStore(1000, 900, meterRegistry), true, 3, 60, 2, 60, meterRegistry);
+	private final LoginRateLimitWebFilter filter = new LoginRateLimitWebFilter(loginRateLimiter, new ObjectMapper());
+
+	@Test
+	void passesCachedBodyToController() {
+		AtomicReference<String> body = new AtomicReference<>();
+		WebFilterChain chain = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+				.doOnNext(buffer -> {
+					body.set(buffer.toString(StandardCharsets.UTF_8));
+					DataBufferUtils.release(buffer);
+				})
+				.then();
+
+		MockServerWebExchange exchange = login("10.0.0.1", credentials("user"), chain);
+
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+		assertThat(body.get()).isEqualTo(credentials("user"));
+	}
+
+	@Test
+	void rejectsUsernameOverLimitIgnoringCase() {
+		assertThat(login("10.0.0.2", credentials("victim")).getResponse().getStatusCode()).isNull();
+		assertThat(login("10.0.0.3", credentials("VICTIM")).getResponse().getStatusCode()).isNull();
+
+		MockServerWebExchange exchange = login("10.0.0.4", credentials("Victim"));
+
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+		assertThat(exchange.getResponse().getBodyAsString().block()).contains("\"status\":429");
+	}
+
+	@Test
+	void rejectsIpOverLimit() {
+		for (int i = 0; i < 3; i++) {
+			assertThat(login("10.0.0.5", credentials("user" + i)).getResponse().getStatusCode()).isNull();
+		}
+
+		MockServerWebExchange exchange = login("10.0.0.5", credentials("other"));
+
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("20");
+	}
+
+	@Test
+	void rejectsLargeBody() {
+		MockServerWebExchange exchange = login("10.0.0.6", "{\"username\":\"" + "a".repeat(5000) + "\"}");
+
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+	}
+
+	@Test
+	void ignoresOtherRequests() {
+		for (int i = 0; i < 10; i++) {
+			MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/refresh")
+					.remoteAddress(new InetSocketAddress("10.0.0.7", 40000))
+					.body(credentials("user")));
+			filter.filter(exchange, ignored -> Mono.empty()).block();
+			assertThat(exchange.getResponse().getStatusCode()).isNull();
+		}
+	}
+
+	private MockServerWebExchange login(String ip, String body) {
+		return login(ip, body, exchange -> Mono.empty());
+	}
+
+	private MockServerWebExchange login(String ip, String body, WebFilterChain chain) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/authenticate")
+				.remoteAddress(new InetSocketAddress(ip, 40000))
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(body));
+		filter.filter(exchange, chain).block();
+		return exchange;
+	}
+
+	private static String credentials(String username) {
+		return "{\"username\":\"" + username + "\",\"password\":\"password\"}";
+	}
+}
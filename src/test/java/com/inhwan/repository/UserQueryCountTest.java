@@ -0,0 +1,55 @@
+package com.inhwan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inhwan.dto.UserPageDto;
+import com.inhwan.entity.User;
+import com.inhwan.service.UserService;
+import com.inhwan.support.QueryCountInspector;
+
+// User.authorities 조회가 유저 수만큼 쿼리를 더 실행하지 않는지 (N+1) 확인
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.inhwan.support.QueryCountInspector",
+		"spring.jpa.properties.hibernate.show_sql=false"
+})
+class UserQueryCountTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		QueryCountInspector.reset();
+	}
+
+	@Test
+	void findOneWithAuthoritiesLoadsAuthoritiesInSameQuery() {
+		transactionTemplate.executeWithoutResult(status -> {
+			User user = userRepository.findOneWithAuthoritiesByUsername("admin").orElseThrow();
+			assertThat(user.getAuthorities()).hasSize(2);
+		});
+
+		QueryCountInspector.assertSelectCount(1);
+	}
+
+	@Test
+	void userPageLoadsAuthoritiesForAllUsersInOneQuery() {
+		UserPageDto page = userService.getUsers(0, null, null, 50);
+
+		assertThat(page.getUsers()).hasSizeGreaterThanOrEqualTo(2);
+		assertThat(page.getUsers()).allSatisfy(user -> assertThat(user.getAuthorities()).isNotEmpty());
+		QueryCountInspector.assertSelectCount(2);	// 유저 목록 1번 + 권한 목록 1번
+	}
+}
@@ -0,0 +1,161 @@
+package com.inhwan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.inhwan.dto.TokenDto;
+import com.inhwan.entity.RefreshToken;
+import com.inhwan.entity.User;
+import com.inhwan.exception.InvalidRefreshTokenException;
+import com.inhwan.repository.RefreshTokenRepository;
+import com.inhwan.repository.UserRepository;
+
+// refresh token 교체, 재사용 감지, 동시 교체, 만료 토큰 정리
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    void rotateIssuesNewRefreshToken() {
+        TokenDto issued = refreshTokenService.issue(login("user"));
+
+        TokenDto rotated = refreshTokenService.rotate(issued.getRefreshToken());
+
+        assertThat(rotated.getToken()).isNotBlank();
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+        assertThat(refreshTokenService.rotate(rotated.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesFamily() {
+        TokenDto issued = refreshTokenService.issue(login("user"));
+        TokenDto rotated = refreshTokenService.rotate(issued.getRefreshToken());
+
+        // 이미 교체된 토큰을 다시 사용하면 거절하고, 같은 묶음에서 새로 발급된 토큰도 폐기된다
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThatThrownBy(() -> refreshTokenService.rotate(rotated.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void reuseDoesNotRevokeOtherFamilies() {
+        TokenDto stolen = refreshTokenService.issue(login("user"));
+        TokenDto otherLogin = refreshTokenService.issue(login("user"));
+        refreshTokenService.rotate(stolen.getRefreshToken());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(stolen.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThat(refreshTokenService.rotate(otherLogin.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void concurrentRotationsRevokeFamily() throws Exception {
+        TokenDto issued = refreshTokenService.issue(login("user"));
+
+        // 같은 토큰으로 동시에 두 번 교체하면 하나만 성공하고, 나머지는 재사용으로 보고 묶음 전체를 폐기한다
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<TokenDto> rotation = () -> {
+            start.await();
+            return refreshTokenService.rotate(issued.getRefreshToken());
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<TokenDto>> futures = List.of(executor.submit(rotation), executor.submit(rotation));
+            start.countDown();
+
+            List<TokenDto> succeeded = new ArrayList<>();
+            int rejected = 0;
+            for (Future<TokenDto> future : futures) {
+                try {
+                    succeeded.add(future.get(30, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(InvalidRefreshTokenException.class);
+                    rejected++;
+                }
+            }
+
+            assertThat(succeeded).hasSizeLessThanOrEqualTo(1);
+            assertThat(rejected).isGreaterThanOrEqualTo(1);
+            for (TokenDto tokenDto : succeeded) {
+                assertThatThrownBy(() -> refreshTokenService.rotate(tokenDto.getRefreshToken()))
+                        .isInstanceOf(InvalidRefreshTokenException.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void logoutRevokesRefreshTokenFamily() {
+        TokenDto issued = refreshTokenService.issue(login("user"));
+        TokenDto rotated = refreshTokenService.rotate(issued.getRefreshToken());
+
+        // 교체 전 토큰으로 로그아웃해도 같은 묶음의 최신 토큰까지 폐기된다
+        tokenRevocationService.logout("user", UUID.randomUUID().toString(), Instant.now().plusSeconds(60), issued.getRefreshToken());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(rotated.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void logoutIgnoresRefreshTokenOfAnotherUser() {
+        TokenDto issued = refreshTokenService.issue(login("user"));
+
+        tokenRevocationService.logout("admin", UUID.randomUUID().toString(), Instant.now().plusSeconds(60), issued.getRefreshToken());
+
+        assertThat(refreshTokenService.rotate(issued.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void deleteExpiredRemovesOnlyExpiredRows() {
+        User user = userRepository.findOneByUsername("user").orElseThrow();
+        RefreshToken expired = refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash("expired-" + System.nanoTime())
+                .familyId("expired-family")
+                .user(user)
+                .expiresAt(Instant.now().minusSeconds(60))
+                .used(true)
+                .build());
+        TokenDto live = refreshTokenService.issue(login("user"));
+
+        refreshTokenService.deleteExpired();
+
+        assertThat(refreshTokenRepository.findById(expired.getRefreshTokenId())).isEmpty();
+        assertThat(refreshTokenService.rotate(live.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    private static Authentication login(String username) {
+        return new UsernamePasswordAuthenticationToken(username, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
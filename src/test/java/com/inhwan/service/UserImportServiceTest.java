@@ -0,0 +1,124 @@
+package com.inhwan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.inhwan.dto.UserImportResultDto;
+import com.inhwan.entity.Authority;
+import com.inhwan.repository.UserRepository;
+import com.inhwan.service.UserImportService.Format;
+
+// 대량 가입 파일 파싱과 중복 행 처리
+@SpringBootTest(properties = {
+        "security.password.bcrypt-strength=4",
+        "user.import.chunk-size=2"
+})
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void splitCsvHandlesQuotesAndEscapedQuotes() {
+        assertThat(UserImportService.splitCsv("a,b,,c")).containsExactly("a", "b", "", "c");
+        assertThat(UserImportService.splitCsv("\"a,b\",\"say \"\"hi\"\"\",c")).containsExactly("a,b", "say \"hi\"", "c");
+        assertThat(UserImportService.splitCsv("")).containsExactly("");
+    }
+
+    @Test
+    void splitCsvRejectsUnclosedQuote() {
+        assertThatThrownBy(() -> UserImportService.splitCsv("\"a,b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void importsCsvWithQuotedValuesAndAuthorities() throws IOException {
+        UserImportResultDto result = importUsers(Format.CSV,
+                "Username,password,nickname,authorities",
+                "csv-user-1,password1,\"nick, one\",ROLE_USER;ROLE_ADMIN",
+                "",
+                "csv-user-2,password2,nick2,");
+
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(userRepository.findOneWithAuthoritiesByUsername("csv-user-1").orElseThrow().getAuthorities())
+                .extracting(Authority::getAuthorityName)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        assertThat(userRepository.findOneWithAuthoritiesByUsername("csv-user-2").orElseThrow().getNickname())
+                .isEqualTo("nick2");
+    }
+
+    @Test
+    void csvWithoutRequiredHeaderFailsWholeFile() throws IOException {
+        UserImportResultDto result = importUsers(Format.CSV,
+                "username,password",
+                "csv-no-header,password1");
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getLine()).isEqualTo(1));
+    }
+
+    @Test
+    void reportsUnreadableAndInvalidRows() throws IOException {
+        UserImportResultDto result = importUsers(Format.NDJSON,
+                "{\"username\":\"ndjson-ok\",\"password\":\"password\",\"nickname\":\"nick\"}",
+                "{not json",
+                "{\"username\":\"x\",\"password\":\"password\",\"nickname\":\"nick\"}",
+                "{\"username\":\"ndjson-role\",\"password\":\"password\",\"nickname\":\"nick\",\"authorities\":[\"ROLE_NONE\"]}");
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(UserImportResultDto.RowError::getLine).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void duplicateRowsInFileAndExistingUsersAreReported() throws IOException {
+        UserImportResultDto result = importUsers(Format.NDJSON,
+                "{\"username\":\"dup-user\",\"password\":\"password\",\"nickname\":\"first\"}",
+                "{\"username\":\"admin\",\"password\":\"password\",\"nickname\":\"admin\"}",
+                "{\"username\":\"dup-user\",\"password\":\"password\",\"nickname\":\"second\"}",
+                "{\"username\":\"dup-other\",\"password\":\"password\",\"nickname\":\"other\"}");
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(UserImportResultDto.RowError::getLine).containsExactlyInAnyOrder(2L, 3L);
+        // 파일 안의 중복은 먼저 나온 행만 가입된다
+        assertThat(userRepository.findOneWithAuthoritiesByUsername("dup-user").orElseThrow().getNickname())
+                .isEqualTo("first");
+    }
+
+    @Test
+    void reimportingSameFileReportsEveryRowAsExisting() throws IOException {
+        String[] lines = {
+                "{\"username\":\"again-1\",\"password\":\"password\",\"nickname\":\"nick\"}",
+                "{\"username\":\"again-2\",\"password\":\"password\",\"nickname\":\"nick\"}",
+                "{\"username\":\"again-3\",\"password\":\"password\",\"nickname\":\"nick\"}"
+        };
+        assertThat(importUsers(Format.NDJSON, lines).getImported()).isEqualTo(3);
+
+        UserImportResultDto result = importUsers(Format.NDJSON, lines);
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getFailed()).isEqualTo(3);
+    }
+
+    private UserImportResultDto importUsers(Format format, String... lines) throws IOException {
+        byte[] content = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return userImportService.importUsers(new ByteArrayInputStream(content), format);
+    }
+}
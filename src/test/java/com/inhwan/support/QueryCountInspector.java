@@ -0,0 +1,49 @@
+package com.inhwan.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/*
+ * Hibernate가 실행하는 SQL을 스레드별로 세는 StatementInspector (테스트 전용)
+ * 테스트 프로퍼티로 등록해서 사용한다.
+ *   spring.jpa.properties.hibernate.session_factory.statement_inspector=com.inhwan.support.QueryCountInspector
+ * 폐기 목록 갱신 같은 백그라운드 쿼리가 섞이지 않도록 테스트 스레드에서 실행된 SQL만 센다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.get().add(sql);
+		return sql;
+	}
+
+	public static void reset() {
+		STATEMENTS.get().clear();
+	}
+
+	public static List<String> statements() {
+		return List.copyOf(STATEMENTS.get());
+	}
+
+	public static long selectCount() {
+		return STATEMENTS.get().stream()
+				.filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+				.count();
+	}
+
+	// reset() 이후 실행된 select 개수가 expected 가 아니면 실행된 SQL 목록과 함께 실패
+	public static void assertSelectCount(long expected) {
+		long actual = selectCount();
+		if (actual != expected) {
+			throw new AssertionError("select " + expected + "번을 예상했지만 " + actual + "번 실행되었습니다.\n"
+					+ String.join("\n", statements()));
+		}
+	}
+}
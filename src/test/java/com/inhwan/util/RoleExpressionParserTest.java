@@ -0,0 +1,125 @@
+package com.inhwan.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import com.inhwan.jwt.JwtAuthenticationToken;
+
+// bitmask로 바꾼 @PreAuthorize 표현식이 기본 SpEL 평가와 같은 결과를 내는지
+class RoleExpressionParserTest {
+
+	// bitmask로 바뀌는 표현식
+	private static final List<String> COMPILED = List.of(
+			"hasRole('USER')",
+			"hasRole('ROLE_USER')",
+			"hasRole('ADMIN')",
+			" hasRole( 'USER' ) ",
+			"hasAnyRole('USER','ADMIN')",
+			"hasAnyRole('ROLE_ADMIN')",
+			"hasAnyRole('USER', 'ROLE_ADMIN')",
+			"hasAuthority('ROLE_USER')",
+			"hasAuthority('ROLE_ADMIN')",
+			"hasAnyAuthority('ROLE_ADMIN','ROLE_USER')");
+
+	// SpEL로 그대로 파싱되는 표현식 (bit가 없는 권한, and/or, 다른 함수)
+	private static final List<String> SPEL_ONLY = List.of(
+			"hasAuthority('USER')",
+			"hasRole('CUSTOM')",
+			"hasAnyRole('USER','CUSTOM')",
+			"hasAuthority('ROLE_ANONYMOUS')",
+			"hasRole('USER') and hasRole('ADMIN')",
+			"hasRole('ADMIN') or hasAuthority('ROLE_CUSTOM')",
+			"!hasRole('ADMIN')",
+			"isAuthenticated()",
+			"isAnonymous()",
+			"permitAll");
+
+	private final DefaultMethodSecurityExpressionHandler spelHandler = new DefaultMethodSecurityExpressionHandler();
+	private final DefaultMethodSecurityExpressionHandler compiledHandler = compiledHandler();
+	private final RoleExpressionParser parser = new RoleExpressionParser("ROLE_");
+
+	@Test
+	void onlySingleRoleChecksWithKnownBitsAreCompiled() {
+		for (String expression : COMPILED) {
+			assertThat(parser.parseExpression(expression)).as(expression)
+					.isInstanceOf(RoleExpressionParser.RoleMaskExpression.class);
+		}
+		for (String expression : SPEL_ONLY) {
+			assertThat(parser.parseExpression(expression)).as(expression)
+					.isNotInstanceOf(RoleExpressionParser.RoleMaskExpression.class);
+		}
+	}
+
+	@Test
+	void compiledExpressionsAgreeWithSpel() throws Exception {
+		List<String> expressions = new ArrayList<>(COMPILED);
+		expressions.addAll(SPEL_ONLY);
+		SimpleMethodInvocation invocation = new SimpleMethodInvocation(this, RoleExpressionParserTest.class.getMethod("securedMethod"));
+
+		for (Map.Entry<String, Authentication> principal : principals().entrySet()) {
+			for (String expression : expressions) {
+				boolean expected = evaluate(spelHandler, expression, principal.getValue(), invocation);
+				boolean actual = evaluate(compiledHandler, expression, principal.getValue(), invocation);
+				assertThat(actual).as("%s / %s", expression, principal.getKey()).isEqualTo(expected);
+			}
+		}
+	}
+
+	public void securedMethod() {
+	}
+
+	private static boolean evaluate(DefaultMethodSecurityExpressionHandler handler, String expressionString,
+			Authentication authentication, SimpleMethodInvocation invocation) {
+		Expression expression = handler.getExpressionParser().parseExpression(expressionString);
+		EvaluationContext context = handler.createEvaluationContext(() -> authentication, invocation);
+		return ExpressionUtils.evaluateAsBoolean(expression, context);
+	}
+
+	private static DefaultMethodSecurityExpressionHandler compiledHandler() {
+		DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+		handler.setExpressionParser(new RoleExpressionParser("ROLE_"));	// SecurityConfig와 같은 설정
+		return handler;
+	}
+
+	// 토큰에서 만든 Authentication, 다른 인증 방식, bit가 없는 권한, 익명 유저
+	private static Map<String, Authentication> principals() {
+		Map<String, Authentication> principals = new LinkedHashMap<>();
+		principals.put("jwt user", jwt("ROLE_USER"));
+		principals.put("jwt admin", jwt("ROLE_USER,ROLE_ADMIN"));
+		principals.put("jwt user + custom", jwt("ROLE_USER,ROLE_CUSTOM"));
+		principals.put("jwt custom only", jwt("ROLE_CUSTOM"));
+		principals.put("jwt no authorities", new JwtAuthenticationToken("user", "token", List.of(), "jti", new Date(), null));
+		principals.put("password admin", password("ROLE_ADMIN"));
+		principals.put("password user + custom", password("ROLE_USER", "ROLE_CUSTOM"));
+		principals.put("password unprefixed", password("USER"));
+		principals.put("anonymous", new AnonymousAuthenticationToken("key", "anonymousUser",
+				AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+		return principals;
+	}
+
+	private static Authentication jwt(String authorities) {
+		return new JwtAuthenticationToken("user", "token", AuthorityRegistry.resolve(authorities), "jti", new Date(), null);
+	}
+
+	private static Authentication password(String... authorities) {
+		List<GrantedAuthority> granted = AuthorityUtils.createAuthorityList(authorities);
+		return new UsernamePasswordAuthenticationToken("user", null, granted);
+	}
+}